@@ -0,0 +1,86 @@
+package com.aletheia.testservice.benchmark;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+// Exceptions with realistic stack depth: a request through Tomcat and Spring MVC reaches
+// ErrorController roughly 50 frames deep, so fixtures are thrown from that depth.
+final class BenchmarkFixtures {
+
+    static final int REQUEST_STACK_DEPTH = 50;
+
+    private BenchmarkFixtures() {
+    }
+
+    static NullPointerException nullPointerException() {
+        return capture(() -> {
+            String str = null;
+            str.length();
+            return null;
+        });
+    }
+
+    static ArrayIndexOutOfBoundsException arrayIndexOutOfBoundsException() {
+        return capture(() -> {
+            int[] array = {1, 2, 3};
+            int index = array.length + 7;
+            array[index] = 0;
+            return null;
+        });
+    }
+
+    static ArithmeticException arithmeticException() {
+        return capture(() -> {
+            int y = 0;
+            return 42 / y;
+        });
+    }
+
+    static SQLException sqlException() {
+        return capture(() -> {
+            throw new WrappedChecked(new SQLException("Connection timeout after 30s", "08001", 0));
+        });
+    }
+
+    static OutOfMemoryError outOfMemoryError() {
+        return capture(() -> {
+            throw new OutOfMemoryError("Java heap space");
+        });
+    }
+
+    static RuntimeException runtimeException(Throwable cause) {
+        return capture(() -> {
+            throw new RuntimeException(cause);
+        });
+    }
+
+    static Exception exception() {
+        return capture(() -> {
+            throw new WrappedChecked(new Exception("Unexpected failure"));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T capture(Supplier<Object> thrower) {
+        try {
+            atDepth(REQUEST_STACK_DEPTH, thrower);
+        } catch (WrappedChecked e) {
+            // Keep the trace of the throw site, not of the wrapper
+            e.getCause().setStackTrace(e.getStackTrace());
+            return (T) e.getCause();
+        } catch (Throwable t) {
+            return (T) t;
+        }
+        throw new IllegalStateException("Fixture did not throw");
+    }
+
+    private static Object atDepth(int depth, Supplier<Object> thrower) {
+        return depth == 0 ? thrower.get() : atDepth(depth - 1, thrower);
+    }
+
+    private static final class WrappedChecked extends RuntimeException {
+        WrappedChecked(Throwable cause) {
+            super(cause);
+        }
+    }
+}
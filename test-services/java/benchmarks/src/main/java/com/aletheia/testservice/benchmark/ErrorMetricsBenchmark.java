@@ -0,0 +1,88 @@
+package com.aletheia.testservice.benchmark;
+
+import com.aletheia.testservice.metrics.ErrorMetrics;
+import com.aletheia.testservice.model.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Per-request metric overhead of /api/v1/error: the pre-registered ErrorType table
+// against building and registering tagged meters on every request.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorMetricsBenchmark {
+
+    private static final Duration[] SLO = {Duration.ofMillis(10), Duration.ofMillis(100), Duration.ofSeconds(1)};
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    @Param({"npe", "sql_error"})
+    public String errorType;
+
+    private PrometheusMeterRegistry registry;
+    private ErrorMetrics errorMetrics;
+    private ErrorType type;
+    private long start;
+
+    @Setup
+    public void setup() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        errorMetrics = new ErrorMetrics(registry, SLO, PERCENTILES);
+        type = ErrorType.valueOf(errorType.toUpperCase());
+        start = System.nanoTime();
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void preRegistered() {
+        errorMetrics.countError(type);
+        errorMetrics.countExceptionThrown(type);
+        errorMetrics.recordRequest(type, start);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void preRegisteredContended() {
+        preRegistered();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void dynamicTagging() {
+        Counter.builder("error_count_total")
+                .tag("service", "java-test-service")
+                .tag("error_type", type.tag())
+                .register(registry)
+                .increment();
+        Counter.builder("exception_thrown_total")
+                .tag("service", "java-test-service")
+                .tag("exception_class", type.exceptionClass())
+                .register(registry)
+                .increment();
+        Timer.builder("error_request_duration")
+                .tag("error_type", type.tag())
+                .serviceLevelObjectives(SLO)
+                .publishPercentiles(PERCENTILES)
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void dynamicTaggingContended() {
+        dynamicTagging();
+    }
+}
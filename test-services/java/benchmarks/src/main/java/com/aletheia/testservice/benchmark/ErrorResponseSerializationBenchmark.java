@@ -0,0 +1,46 @@
+package com.aletheia.testservice.benchmark;
+
+import com.aletheia.testservice.config.JacksonConfig;
+import com.aletheia.testservice.exception.StackTraceCache;
+import com.aletheia.testservice.model.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseSerializationBenchmark {
+
+    // none: no stack trace, uncached: plain Jackson walk, cached: pre-encoded splice
+    @Param({"none", "uncached", "cached"})
+    private String stackTrace;
+
+    private ObjectMapper objectMapper;
+    private ErrorResponse response;
+
+    @Setup
+    public void setup() {
+        StackTraceCache cache = new StackTraceCache(new SimpleMeterRegistry(), "cached".equals(stackTrace), 256);
+        objectMapper = new ObjectMapper().registerModule(new JacksonConfig().errorResponseModule(cache));
+
+        NullPointerException ex = BenchmarkFixtures.nullPointerException();
+        response = new ErrorResponse(
+                ex.getMessage(),
+                "null_pointer_exception",
+                ex.getClass().getName(),
+                "5f0c6a2e-8b7d-4c1e-9f3a-2d4b6e8a0c1f",
+                "none".equals(stackTrace) ? null : ex.getStackTrace()
+        );
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
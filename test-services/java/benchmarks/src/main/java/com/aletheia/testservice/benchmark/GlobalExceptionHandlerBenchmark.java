@@ -0,0 +1,101 @@
+package com.aletheia.testservice.benchmark;
+
+import com.aletheia.testservice.exception.GlobalExceptionHandler;
+import com.aletheia.testservice.metrics.ErrorMetrics;
+import com.aletheia.testservice.model.ErrorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private NullPointerException nullPointer;
+    private ArrayIndexOutOfBoundsException arrayIndex;
+    private ArithmeticException arithmetic;
+    private SQLException sql;
+    private OutOfMemoryError outOfMemory;
+    private IllegalArgumentException illegalArgument;
+    private RuntimeException wrappedNullPointer;
+    private RuntimeException runtime;
+    private Exception generic;
+
+    @Setup
+    public void setup() {
+        handler = new GlobalExceptionHandler(new ErrorMetrics(new SimpleMeterRegistry(),
+                new Duration[]{Duration.ofMillis(10), Duration.ofMillis(100), Duration.ofSeconds(1)},
+                new double[]{0.5, 0.99, 0.999}));
+        nullPointer = BenchmarkFixtures.nullPointerException();
+        arrayIndex = BenchmarkFixtures.arrayIndexOutOfBoundsException();
+        arithmetic = BenchmarkFixtures.arithmeticException();
+        sql = BenchmarkFixtures.sqlException();
+        outOfMemory = BenchmarkFixtures.outOfMemoryError();
+        illegalArgument = new IllegalArgumentException("Unknown distribution 'bogus'");
+        // ErrorController wraps every injected failure before rethrowing it
+        wrappedNullPointer = BenchmarkFixtures.runtimeException(nullPointer);
+        runtime = BenchmarkFixtures.runtimeException(BenchmarkFixtures.exception());
+        generic = BenchmarkFixtures.exception();
+        MDC.put("request_id", "5f0c6a2e-8b7d-4c1e-9f3a-2d4b6e8a0c1f");
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.remove("request_id");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> nullPointerException() {
+        return handler.handleNullPointerException(nullPointer);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> arrayIndexOutOfBoundsException() {
+        return handler.handleArrayIndexOutOfBoundsException(arrayIndex);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> arithmeticException() {
+        return handler.handleArithmeticException(arithmetic);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> sqlException() {
+        return handler.handleSQLException(sql);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> outOfMemoryError() {
+        return handler.handleOutOfMemoryError(outOfMemory);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> illegalArgumentException() {
+        return handler.handleIllegalArgumentException(illegalArgument);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> runtimeExceptionWrappingHandledCause() {
+        return handler.handleRuntimeException(wrappedNullPointer);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> runtimeException() {
+        return handler.handleRuntimeException(runtime);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> genericException() {
+        return handler.handleGenericException(generic);
+    }
+}
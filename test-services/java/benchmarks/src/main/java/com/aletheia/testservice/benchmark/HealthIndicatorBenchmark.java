@@ -0,0 +1,68 @@
+package com.aletheia.testservice.benchmark;
+
+import com.aletheia.testservice.config.ConfigurableHealthIndicator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.actuate.health.Health;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Probe cost of ConfigurableHealthIndicator in each state. The *Probes methods run 8 threads in
+// throughput mode, well beyond the ~10k probes/s a mesh of sidecars and scrapers generates.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealthIndicatorBenchmark {
+
+    private ConfigurableHealthIndicator indicator;
+    private ConfigurableHealthIndicator failing;
+    private ConfigurableHealthIndicator overridden;
+
+    @Setup
+    public void setup() {
+        // Picks up FAIL_LIVENESS_AFTER / FAIL_READINESS_AFTER from the benchmark environment
+        indicator = new ConfigurableHealthIndicator();
+        failing = new ConfigurableHealthIndicator(Duration.ZERO, Duration.ZERO);
+        overridden = new ConfigurableHealthIndicator(null, null);
+        overridden.setReadinessOverride("Scenario 'benchmark' phase 'down'");
+    }
+
+    @Benchmark
+    public Health health() {
+        return indicator.health();
+    }
+
+    @Benchmark
+    public Health liveness() {
+        return indicator.checkLiveness();
+    }
+
+    @Benchmark
+    public Health failedReadiness() {
+        return failing.checkReadiness();
+    }
+
+    @Benchmark
+    public Health overriddenReadiness() {
+        return overridden.checkReadiness();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(8)
+    public Health healthProbes() {
+        return indicator.health();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(8)
+    public Health failedReadinessProbes() {
+        return failing.checkReadiness();
+    }
+}
@@ -0,0 +1,66 @@
+package com.aletheia.testservice.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import net.logstash.logback.encoder.LogstashEncoder;
+import net.logstash.logback.fieldnames.LogstashFieldNames;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Encodes the ERROR event GlobalExceptionHandler logs for an NPE, with the encoder
+// configured as in logback-spring.xml.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogstashEncoderBenchmark {
+
+    private LogstashEncoder encoder;
+    private LoggingEvent event;
+
+    @Setup
+    public void setup() {
+        LoggerContext context = new LoggerContext();
+        context.putProperty("HOSTNAME", "java-test-service-0");
+
+        LogstashFieldNames fieldNames = new LogstashFieldNames();
+        fieldNames.setTimestamp("timestamp");
+        fieldNames.setVersion("[ignore]");
+        fieldNames.setLevelValue("[ignore]");
+
+        encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setIncludeContext(true);
+        encoder.setIncludeMdc(true);
+        encoder.setIncludeStructuredArguments(true);
+        encoder.setIncludeTags(true);
+        encoder.setFieldNames(fieldNames);
+        encoder.setCustomFields("{\"service\":\"aletheia-java-test-service\"}");
+        encoder.start();
+
+        Logger logger = context.getLogger("com.aletheia.testservice.exception.GlobalExceptionHandler");
+        String requestId = "5f0c6a2e-8b7d-4c1e-9f3a-2d4b6e8a0c1f";
+        event = new LoggingEvent(
+                Logger.class.getName(),
+                logger,
+                Level.ERROR,
+                "NullPointerException occurred (request_id={})",
+                BenchmarkFixtures.nullPointerException(),
+                new Object[]{requestId});
+        event.setMDCPropertyMap(Map.of("request_id", requestId));
+        event.setThreadName("http-nio-8080-exec-1");
+        // Format message and throwable once, as the async appender does before queueing
+        event.prepareForDeferredProcessing();
+    }
+
+    @Benchmark
+    public byte[] encodeErrorEvent() {
+        return encoder.encode(event);
+    }
+}
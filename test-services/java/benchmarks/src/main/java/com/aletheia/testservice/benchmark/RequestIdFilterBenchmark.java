@@ -0,0 +1,49 @@
+package com.aletheia.testservice.benchmark;
+
+import com.aletheia.testservice.config.RequestIdFilter;
+import com.aletheia.testservice.config.RequestIdGenerator;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestIdFilterBenchmark {
+
+    @Param({"uuid", "random"})
+    private String generator;
+
+    private RequestIdFilter filter;
+    private MockHttpServletRequest requestWithHeader;
+    private MockHttpServletRequest requestWithoutHeader;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setup() {
+        filter = new RequestIdFilter(RequestIdGenerator.fromName(generator));
+        requestWithHeader = new MockHttpServletRequest("GET", "/api/v1/error");
+        requestWithHeader.addHeader("X-Request-Id", "5f0c6a2e-8b7d-4c1e-9f3a-2d4b6e8a0c1f");
+        requestWithoutHeader = new MockHttpServletRequest("GET", "/api/v1/error");
+        response = new MockHttpServletResponse();
+        chain = (request, response) -> {
+        };
+    }
+
+    @Benchmark
+    public void withIncomingHeader() throws Exception {
+        filter.doFilter(requestWithHeader, response, chain);
+    }
+
+    @Benchmark
+    public void withoutIncomingHeader() throws Exception {
+        filter.doFilter(requestWithoutHeader, response, chain);
+    }
+}
@@ -0,0 +1,33 @@
+package com.aletheia.testservice.benchmark;
+
+import com.aletheia.testservice.config.RequestIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Every thread generates IDs at once, which is where the shared SecureRandom behind
+// UUID.randomUUID() and the lock in the v7 generator show up.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class RequestIdGeneratorBenchmark {
+
+    @Param({"uuid", "random", "time", "uuid7"})
+    private String generatorName;
+
+    private RequestIdGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = RequestIdGenerator.fromName(generatorName);
+    }
+
+    @Benchmark
+    public String next() {
+        return generator.next();
+    }
+}
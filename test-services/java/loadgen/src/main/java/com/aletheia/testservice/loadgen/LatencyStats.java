@@ -0,0 +1,117 @@
+package com.aletheia.testservice.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-type HdrHistogram recorders in nanoseconds. Senders record concurrently; the reporter
+// thread swaps out interval histograms and folds them into the run totals.
+final class LatencyStats {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final RequestMix mix;
+    private final Recorder[] recorders;
+    // Requests whose start falls inside the warmup: shown in progress lines, never summarised
+    private final Recorder warmup = new Recorder(3);
+    private final Histogram[] accumulated;
+    private final Histogram total = new Histogram(3);
+    private final ConcurrentMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+    private final AtomicReference<String> firstError = new AtomicReference<>();
+    private Histogram[] recycled;
+    private Histogram recycledWarmup;
+
+    LatencyStats(RequestMix mix) {
+        this.mix = mix;
+        this.recorders = new Recorder[mix.size()];
+        this.accumulated = new Histogram[mix.size()];
+        this.recycled = new Histogram[mix.size()];
+        for (int i = 0; i < mix.size(); i++) {
+            recorders[i] = new Recorder(3);
+            accumulated[i] = new Histogram(3);
+        }
+    }
+
+    // outcome is the HTTP status, "timeout" or "io_error"
+    void record(int type, long latencyNanos, String outcome) {
+        recorders[type].recordValue(latencyNanos);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    void recordWarmup(long latencyNanos) {
+        warmup.recordValue(latencyNanos);
+    }
+
+    void recordError(Exception e) {
+        firstError.compareAndSet(null, e.toString());
+    }
+
+    void skip() {
+        skipped.increment();
+    }
+
+    // Called from the reporter thread only: folds measured samples into the run totals and
+    // returns everything completed since the last call, warmup included, for progress output
+    Histogram interval() {
+        Histogram interval = new Histogram(3);
+        for (int i = 0; i < recorders.length; i++) {
+            Histogram typeInterval = recorders[i].getIntervalHistogram(recycled[i]);
+            accumulated[i].add(typeInterval);
+            interval.add(typeInterval);
+            recycled[i] = typeInterval;
+        }
+        total.add(interval);
+        recycledWarmup = warmup.getIntervalHistogram(recycledWarmup);
+        interval.add(recycledWarmup);
+        return interval;
+    }
+
+    Histogram total() {
+        return total;
+    }
+
+    void printSummary(PrintStream out, double elapsedSeconds) {
+        out.printf("%n%-18s %10s %10s %10s %10s %10s %10s %10s%n",
+                "type", "count", "rps", "p50 ms", "p99 ms", "p999 ms", "max ms", "mean ms");
+        for (int i = 0; i < accumulated.length; i++) {
+            printRow(out, mix.type(i), accumulated[i], elapsedSeconds);
+        }
+        printRow(out, "all", total, elapsedSeconds);
+
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> sorted.put(outcome, count.sum()));
+        out.printf("%noutcomes: %s", sorted);
+        if (skipped.sum() > 0) {
+            out.printf(", skipped (max in flight): %d", skipped.sum());
+        }
+        out.println();
+        if (firstError.get() != null) {
+            out.println("first error: " + firstError.get());
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, double elapsedSeconds) {
+        out.printf("%-18s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / elapsedSeconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                histogram.getMean() / NANOS_PER_MILLI);
+    }
+
+    static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
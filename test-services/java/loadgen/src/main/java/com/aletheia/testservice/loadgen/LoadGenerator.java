@@ -0,0 +1,194 @@
+package com.aletheia.testservice.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Drives /api/v1/error with a weighted type mix, one virtual thread per in-flight request.
+//
+// Open mode schedules arrivals at a constant rate and measures each request from its
+// intended start, so a stalled service shows up as latency instead of silently lowering
+// the offered load (coordinated omission). Closed mode runs a fixed number of workers and
+// measures from the actual send, which is the classic benchmark-loop view.
+public final class LoadGenerator {
+
+    private static final String[] STATUS_OUTCOMES = new String[600];
+
+    static {
+        for (int status = 0; status < STATUS_OUTCOMES.length; status++) {
+            STATUS_OUTCOMES[status] = Integer.toString(status);
+        }
+    }
+
+    private final LoadOptions options;
+    private final RequestMix mix;
+    private final LatencyStats stats;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final PrintStream out = System.out;
+    private long measureFrom;
+
+    LoadGenerator(LoadOptions options) {
+        this.options = options;
+        this.mix = new RequestMix(options.baseUrl(), options.mix(), options.latency(), options.timeout());
+        this.stats = new LatencyStats(mix);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(LoadOptions.USAGE);
+            return;
+        }
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        new LoadGenerator(options).run();
+    }
+
+    void run() throws IOException, InterruptedException {
+        out.printf("%s load against %s/api/v1/error, mix %s, %s warmup + %s%n",
+                options.mode() == LoadOptions.Mode.OPEN
+                        ? "Open-loop " + options.rate() + " rps"
+                        : "Closed-loop " + options.concurrency() + " workers",
+                options.baseUrl(), options.mix(), options.warmup(), options.duration());
+
+        long start = System.nanoTime();
+        measureFrom = start + options.warmup().toNanos();
+        long deadline = measureFrom + options.duration().toNanos();
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadgen-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> progress(start), 1, 1, TimeUnit.SECONDS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             // Keeps its own internal executor: handing it ours would shut its selector down
+             // while the final requests drain
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(options.timeout())
+                     .build()) {
+            if (options.mode() == LoadOptions.Mode.OPEN) {
+                runOpen(client, executor, start, deadline);
+            } else {
+                runClosed(client, executor, deadline);
+            }
+            // Wait for requests still in flight before the client is closed
+            executor.close();
+        }
+
+        reporter.shutdownNow();
+        reporter.awaitTermination(1, TimeUnit.SECONDS);
+        stats.interval();
+        stats.printSummary(out, options.duration().toNanos() / 1e9);
+
+        if (options.histogramOutput() != null) {
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(options.histogramOutput()))) {
+                // Values are recorded in nanoseconds; report them in milliseconds
+                stats.total().outputPercentileDistribution(hgrm, 1_000_000.0);
+            }
+            out.println("Wrote percentile distribution to " + options.histogramOutput());
+        }
+    }
+
+    private void runOpen(HttpClient client, ExecutorService executor, long start, long deadline) {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        for (long arrival = 0; ; arrival++) {
+            long intended = start + (long) (arrival * intervalNanos);
+            if (intended - deadline >= 0) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // Bound memory if the service stops answering; skipped arrivals are reported
+            if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                inFlight.decrementAndGet();
+                stats.skip();
+                continue;
+            }
+            int type = mix.next(ThreadLocalRandom.current());
+            executor.execute(() -> {
+                try {
+                    send(client, type, intended);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void runClosed(HttpClient client, ExecutorService executor, long deadline) {
+        for (int worker = 0; worker < options.concurrency(); worker++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() - deadline < 0) {
+                    inFlight.incrementAndGet();
+                    try {
+                        send(client, mix.next(random), System.nanoTime());
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+
+    private void send(HttpClient client, int type, long startNanos) {
+        String outcome;
+        try {
+            HttpResponse<Void> response = client.send(mix.request(type), HttpResponse.BodyHandlers.discarding());
+            int status = response.statusCode();
+            outcome = status < STATUS_OUTCOMES.length ? STATUS_OUTCOMES[status] : Integer.toString(status);
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+        } catch (IOException e) {
+            outcome = "io_error";
+            stats.recordError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long latency = System.nanoTime() - startNanos;
+        // Only requests that start after the warmup count, however late they complete
+        if (startNanos - measureFrom < 0) {
+            stats.recordWarmup(latency);
+        } else {
+            stats.record(type, latency, outcome);
+        }
+    }
+
+    private void progress(long start) {
+        long now = System.nanoTime();
+        Histogram interval = stats.interval();
+        out.printf("[%4ds] %-9s %8d req  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms  in-flight %d%n",
+                TimeUnit.NANOSECONDS.toSeconds(now - start),
+                now - measureFrom < 0 ? "warmup" : "measuring",
+                interval.getTotalCount(),
+                LatencyStats.millis(interval.getValueAtPercentile(50)),
+                LatencyStats.millis(interval.getValueAtPercentile(99)),
+                LatencyStats.millis(interval.getMaxValue()),
+                inFlight.get());
+    }
+}
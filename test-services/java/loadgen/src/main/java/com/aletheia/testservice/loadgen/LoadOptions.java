@@ -0,0 +1,125 @@
+package com.aletheia.testservice.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Command line options, all given as --name=value
+record LoadOptions(
+        URI baseUrl,
+        Mode mode,
+        double rate,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Duration timeout,
+        Map<String, Integer> mix,
+        String latency,
+        int maxInFlight,
+        Path histogramOutput
+) {
+
+    enum Mode {
+        // Constant arrival rate, independent of how fast responses come back
+        OPEN,
+        // Fixed number of workers, each sending its next request when the last one completes
+        CLOSED
+    }
+
+    static final String USAGE = """
+            Usage: java -jar loadgen.jar [--name=value ...]
+
+              --url=http://localhost:8080   Service base URL
+              --mode=open|closed            open: constant arrival rate; closed: fixed concurrency (default: open)
+              --rate=100                    Requests per second in open mode
+              --concurrency=16              Workers in closed mode
+              --duration=30s                Measured run length
+              --warmup=5s                   Load sent before measuring starts
+              --timeout=10s                 Per-request timeout
+              --mix=npe=1                   Weighted /api/v1/error types, e.g. npe=5,sql_error=2,divide_by_zero=1
+              --latency=<spec>              Optional latency= parameter passed to /api/v1/error, e.g. lognormal:3,0.5
+              --max-in-flight=10000         Open mode: skip arrivals beyond this many outstanding requests
+              --hgrm=<file>                 Write the overall percentile distribution in HdrHistogram .hgrm format
+            """;
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            int equals = arg.indexOf('=');
+            values.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        LoadOptions options = new LoadOptions(
+                URI.create(stripTrailingSlash(values.getOrDefault("url", "http://localhost:8080"))),
+                Mode.valueOf(values.getOrDefault("mode", "open").toUpperCase(Locale.ROOT)),
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                parseDuration(values.getOrDefault("duration", "30s")),
+                parseDuration(values.getOrDefault("warmup", "5s")),
+                parseDuration(values.getOrDefault("timeout", "10s")),
+                parseMix(values.getOrDefault("mix", "npe=1")),
+                values.get("latency"),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                values.containsKey("hgrm") ? Path.of(values.get("hgrm")) : null);
+
+        values.keySet().removeAll(Set.of("url", "mode", "rate", "concurrency", "duration", "warmup",
+                "timeout", "mix", "latency", "max-in-flight", "hgrm"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option(s): " + values.keySet());
+        }
+        if (options.rate() <= 0 || options.concurrency() < 1 || options.maxInFlight() < 1) {
+            throw new IllegalArgumentException("rate must be > 0, concurrency and max-in-flight >= 1");
+        }
+        return options;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    // "500ms", "30s", "2m", "1h"
+    static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (trimmed.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+            }
+            long amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1));
+            return switch (trimmed.charAt(trimmed.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException("Invalid duration '" + value + "'");
+            };
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid duration '" + value + "', expected e.g. 500ms, 30s, 2m");
+        }
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int equals = entry.indexOf('=');
+            String type = (equals < 0 ? entry : entry.substring(0, equals)).trim();
+            int weight = equals < 0 ? 1 : Integer.parseInt(entry.substring(equals + 1).trim());
+            if (weight < 1) {
+                throw new IllegalArgumentException("Mix weight for '" + type + "' must be >= 1");
+            }
+            mix.put(type, weight);
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix must name at least one error type");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,60 @@
+package com.aletheia.testservice.loadgen;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+// Weighted choice over /api/v1/error types. Requests are immutable, so one per type is
+// built up front and reused for every send.
+final class RequestMix {
+
+    private final List<String> types;
+    private final HttpRequest[] requests;
+    private final int[] cumulativeWeights;
+
+    RequestMix(URI baseUrl, Map<String, Integer> weights, String latency, Duration timeout) {
+        this.types = List.copyOf(weights.keySet());
+        this.requests = new HttpRequest[types.size()];
+        this.cumulativeWeights = new int[types.size()];
+
+        int total = 0;
+        for (int i = 0; i < types.size(); i++) {
+            String type = types.get(i);
+            String query = "type=" + URLEncoder.encode(type, StandardCharsets.UTF_8);
+            if (latency != null) {
+                query += "&latency=" + URLEncoder.encode(latency, StandardCharsets.UTF_8);
+            }
+            requests[i] = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/error?" + query))
+                    .timeout(timeout)
+                    .header("User-Agent", "aletheia-loadgen")
+                    .GET()
+                    .build();
+            total += weights.get(type);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    int size() {
+        return types.size();
+    }
+
+    String type(int index) {
+        return types.get(index);
+    }
+
+    HttpRequest request(int index) {
+        return requests[index];
+    }
+
+    int next(RandomGenerator random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, pick + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,196 @@
+package com.aletheia.testservice.reactive;
+
+import com.aletheia.testservice.fault.Distribution;
+import com.aletheia.testservice.fault.LatencyInjector;
+import com.aletheia.testservice.metrics.ErrorMetrics;
+import com.aletheia.testservice.model.ErrorType;
+import com.aletheia.testservice.model.ServiceInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Same /api/v1/ and /api/v1/error contract as ErrorController, served from the Netty event
+// loop. Waits (injected latency, the SQL timeout) are timers rather than sleeps.
+@RestController
+@RequestMapping("/api/v1")
+public class ReactiveErrorController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveErrorController.class);
+    private final ObjectMapper objectMapper;
+    private final LatencyInjector latencyInjector;
+    private final ErrorMetrics errorMetrics;
+    private final Map<String, ErrorType> typesByName;
+    private final Instant startTime;
+
+    public ReactiveErrorController(ObjectMapper objectMapper, LatencyInjector latencyInjector, ErrorMetrics errorMetrics) {
+        this.objectMapper = objectMapper;
+        this.latencyInjector = latencyInjector;
+        this.errorMetrics = errorMetrics;
+        this.startTime = Instant.now();
+        Map<String, ErrorType> names = new HashMap<>();
+        for (ErrorType type : ErrorType.values()) {
+            names.put(type.tag(), type);
+            for (String alias : type.aliases()) {
+                names.put(alias, type);
+            }
+        }
+        this.typesByName = Map.copyOf(names);
+    }
+
+    @GetMapping("/")
+    public Mono<ResponseEntity<ServiceInfo>> getServiceInfo() {
+        ServiceInfo info = new ServiceInfo(
+                "aletheia-java-test-service",
+                "1.0.0",
+                Duration.between(startTime, Instant.now()).toString(),
+                true,
+                "event-loop",
+                Arrays.asList(
+                        "GET /api/v1/",
+                        "GET /api/v1/error?type={npe|array_index|divide_by_zero|json_error|sql_error|oom}&latency={spec}",
+                        "GET /actuator/health",
+                        "GET /actuator/health/liveness",
+                        "GET /actuator/health/readiness",
+                        "GET /actuator/prometheus"
+                )
+        );
+        return Mono.just(ResponseEntity.ok(info));
+    }
+
+    @GetMapping("/error")
+    public Mono<ResponseEntity<Map<String, Object>>> triggerError(
+            @RequestParam(value = "type", defaultValue = "npe") String errorType,
+            @RequestParam(value = "latency", required = false) String latencySpec) {
+
+        // Parse up front so a bad spec is a 400 before any delay
+        Distribution distribution = latencySpec != null ? Distribution.parse(latencySpec) : null;
+
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            RequestIdContext.run(context, () -> logger.warn("Triggering intentional error: {} (request_id={})",
+                    errorType, RequestIdContext.requestId(context)));
+
+            // Optional delay before the fault, drawn from the requested distribution
+            Mono<Void> delay = Mono.empty();
+            if (distribution != null) {
+                Duration sampled = latencyInjector.sample(distribution);
+                delay = Mono.delay(sampled)
+                        .doOnNext(tick -> latencyInjector.record(distribution, LatencyInjector.Source.ERROR_ENDPOINT, sampled))
+                        .then();
+            }
+
+            return delay.then(Mono.defer(() -> fail(errorType, context, start)));
+        });
+    }
+
+    // Same ErrorMetrics meters as the servlet controller, so both variants export one label set
+    private Mono<ResponseEntity<Map<String, Object>>> fail(String errorType, ContextView context, long start) {
+        ErrorType type = typesByName.get(errorType.toLowerCase(Locale.ROOT));
+        if (type == null) {
+            errorMetrics.countUnknownType();
+            Map<String, Object> body = new HashMap<>();
+            body.put("error", "Unknown error type: " + errorType);
+            body.put("error_type", "invalid_request");
+            body.put("timestamp", Instant.now().toString());
+            body.put("request_id", RequestIdContext.requestId(context));
+            body.put("available_types", Arrays.asList("npe", "array_index", "divide_by_zero", "json_error", "sql_error", "oom"));
+            return Mono.just(ResponseEntity.badRequest().body(body));
+        }
+
+        errorMetrics.countError(type);
+        Mono<ResponseEntity<Map<String, Object>>> failure = switch (type) {
+            case NPE -> throwing(context, this::throwNullPointerException);
+            case ARRAY_INDEX -> throwing(context, this::throwArrayIndexOutOfBoundsException);
+            case DIVIDE_BY_ZERO -> throwing(context, this::throwArithmeticException);
+            case JSON_ERROR -> throwing(context, this::throwJsonProcessingException);
+            case SQL_ERROR -> sqlTimeout(context);
+            case OOM -> outOfMemory(context);
+        };
+
+        return failure
+                .doOnError(e -> errorMetrics.countExceptionThrown(type))
+                .doFinally(signal -> errorMetrics.recordRequest(type, start))
+                // Same wrapping as the servlet controller, so the handler sees identical exceptions
+                .onErrorMap(Exception.class, RuntimeException::new);
+    }
+
+    private interface Fault {
+        void run() throws Exception;
+    }
+
+    private <T> Mono<T> throwing(ContextView context, Fault fault) {
+        return Mono.fromCallable(() -> RequestIdContext.call(context, () -> {
+            fault.run();
+            return null;
+        }));
+    }
+
+    private void throwNullPointerException() {
+        logger.error("About to trigger NullPointerException");
+        String str = null;
+        str.length(); // This will throw NullPointerException
+    }
+
+    private void throwArrayIndexOutOfBoundsException() {
+        logger.error("About to trigger ArrayIndexOutOfBoundsException");
+        int[] array = {1, 2, 3};
+        int value = array[10]; // This will throw ArrayIndexOutOfBoundsException
+    }
+
+    private void throwArithmeticException() {
+        logger.error("About to trigger ArithmeticException");
+        int x = 42;
+        int y = 0;
+        int result = x / y; // This will throw ArithmeticException
+    }
+
+    private void throwJsonProcessingException() throws Exception {
+        logger.error("About to trigger JsonProcessingException");
+        String invalidJson = "{\"broken\": json}";
+        objectMapper.readValue(invalidJson, Map.class); // This will throw JsonProcessingException
+    }
+
+    private <T> Mono<T> sqlTimeout(ContextView context) {
+        RequestIdContext.run(context, () -> logger.error("About to trigger SQLException"));
+        // Simulate database connection timeout without parking the event loop
+        return Mono.delay(Duration.ofMillis(100))
+                .then(Mono.error(new SQLException("Connection timeout after 30s", "08001", 0)));
+    }
+
+    private <T> Mono<T> outOfMemory(ContextView context) {
+        // Allocate off the event loop. Reactor treats an OutOfMemoryError escaping an operator
+        // as fatal, so it is caught here and signalled as a regular error.
+        return Mono.<T>defer(() -> {
+            RequestIdContext.run(context, () -> logger.error("About to trigger OutOfMemoryError (simulated)"));
+            // NOTE: This may actually cause OOM in small containers
+            List<byte[]> memoryHog = new ArrayList<>();
+            try {
+                while (true) {
+                    memoryHog.add(new byte[1024 * 1024 * 10]); // 10MB chunks
+                }
+            } catch (OutOfMemoryError e) {
+                memoryHog.clear();
+                RequestIdContext.run(context, () -> logger.error("OutOfMemoryError triggered", e));
+                return Mono.error(e);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,207 @@
+package com.aletheia.testservice.reactive;
+
+import com.aletheia.testservice.metrics.ErrorMetrics;
+import com.aletheia.testservice.model.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import reactor.core.publisher.Mono;
+
+import java.sql.SQLException;
+
+// Reactive counterpart of GlobalExceptionHandler: same status codes and ErrorResponse
+// bodies, with the request ID read from the Reactor Context instead of MDC
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+    private final ErrorMetrics errorMetrics;
+
+    public ReactiveExceptionHandler(ErrorMetrics errorMetrics) {
+        this.errorMetrics = errorMetrics;
+    }
+
+    @ExceptionHandler(NullPointerException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleNullPointerException(NullPointerException ex) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.error("NullPointerException occurred (request_id={})", requestId, ex));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage() != null ? ex.getMessage() : "Null pointer exception",
+                    "null_pointer_exception",
+                    ex.getClass().getName(),
+                    requestId,
+                    ex.getStackTrace()
+            );
+
+            errorMetrics.recordHandler("null_pointer_exception", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+        });
+    }
+
+    @ExceptionHandler(ArrayIndexOutOfBoundsException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleArrayIndexOutOfBoundsException(ArrayIndexOutOfBoundsException ex) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.error("ArrayIndexOutOfBoundsException occurred (request_id={})", requestId, ex));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage(),
+                    "array_index_out_of_bounds",
+                    ex.getClass().getName(),
+                    requestId,
+                    ex.getStackTrace()
+            );
+
+            errorMetrics.recordHandler("array_index_out_of_bounds", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+        });
+    }
+
+    @ExceptionHandler(ArithmeticException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleArithmeticException(ArithmeticException ex) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.error("ArithmeticException occurred (request_id={})", requestId, ex));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage(),
+                    "arithmetic_exception",
+                    ex.getClass().getName(),
+                    requestId,
+                    ex.getStackTrace()
+            );
+
+            errorMetrics.recordHandler("arithmetic_exception", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+        });
+    }
+
+    @ExceptionHandler(SQLException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleSQLException(SQLException ex) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.error("SQLException occurred (request_id={}, sqlState={}, errorCode={})",
+                            requestId, ex.getSQLState(), ex.getErrorCode(), ex));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage(),
+                    "sql_exception",
+                    ex.getClass().getName(),
+                    requestId,
+                    ex.getStackTrace()
+            );
+
+            errorMetrics.recordHandler("sql_exception", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response));
+        });
+    }
+
+    @ExceptionHandler(OutOfMemoryError.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleOutOfMemoryError(OutOfMemoryError ex) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.error("OutOfMemoryError occurred (request_id={})", requestId, ex));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage(),
+                    "out_of_memory_error",
+                    ex.getClass().getName(),
+                    requestId,
+                    ex.getStackTrace()
+            );
+
+            errorMetrics.recordHandler("out_of_memory_error", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+        });
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.warn("Invalid request parameter (request_id={}): {}", requestId, ex.getMessage()));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage(),
+                    "invalid_request",
+                    ex.getClass().getName(),
+                    requestId,
+                    null
+            );
+
+            errorMetrics.recordHandler("invalid_request", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response));
+        });
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleRuntimeException(RuntimeException ex) {
+        // Check if the cause is one of our handled exceptions
+        Throwable cause = ex.getCause();
+        if (cause instanceof NullPointerException npe) {
+            return handleNullPointerException(npe);
+        } else if (cause instanceof ArrayIndexOutOfBoundsException aioobe) {
+            return handleArrayIndexOutOfBoundsException(aioobe);
+        } else if (cause instanceof ArithmeticException ae) {
+            return handleArithmeticException(ae);
+        } else if (cause instanceof SQLException sqle) {
+            return handleSQLException(sqle);
+        }
+
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.error("RuntimeException occurred (request_id={})", requestId, ex));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage(),
+                    "runtime_exception",
+                    ex.getClass().getName(),
+                    requestId,
+                    ex.getStackTrace()
+            );
+
+            errorMetrics.recordHandler("runtime_exception", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+        });
+    }
+
+    @ExceptionHandler(Exception.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleGenericException(Exception ex) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            String requestId = RequestIdContext.requestId(context);
+            RequestIdContext.run(context, () ->
+                    logger.error("Unexpected exception occurred (request_id={})", requestId, ex));
+
+            ErrorResponse response = new ErrorResponse(
+                    ex.getMessage(),
+                    "unexpected_exception",
+                    ex.getClass().getName(),
+                    requestId,
+                    ex.getStackTrace()
+            );
+
+            errorMetrics.recordHandler("unexpected_exception", start);
+            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.aletheia.testservice.reactive;
+
+import com.aletheia.testservice.config.ConfigurableHealthIndicator;
+import com.aletheia.testservice.config.JacksonConfig;
+import com.aletheia.testservice.exception.StackTraceCache;
+import com.aletheia.testservice.fault.LatencyInjector;
+import com.aletheia.testservice.logging.AsyncLoggingMetrics;
+import com.aletheia.testservice.metrics.ErrorMetrics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+// Shared service components live outside this package, so they are imported rather than scanned
+@SpringBootApplication
+@Import({
+        ConfigurableHealthIndicator.class,
+        JacksonConfig.class,
+        StackTraceCache.class,
+        LatencyInjector.class,
+        AsyncLoggingMetrics.class,
+        ErrorMetrics.class
+})
+public class ReactiveTestServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTestServiceApplication.class, args);
+    }
+}
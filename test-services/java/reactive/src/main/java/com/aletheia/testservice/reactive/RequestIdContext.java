@@ -0,0 +1,50 @@
+package com.aletheia.testservice.reactive;
+
+import org.slf4j.MDC;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.Callable;
+
+// Bridges the Reactor Context to MDC for the duration of a synchronous block, so log lines
+// carry request_id exactly as they do in the servlet service
+final class RequestIdContext {
+
+    private RequestIdContext() {
+    }
+
+    static String requestId(ContextView context) {
+        return context.getOrDefault(RequestIdWebFilter.REQUEST_ID_KEY, null);
+    }
+
+    static void run(ContextView context, Runnable body) {
+        try {
+            call(context, () -> {
+                body.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // Runnable cannot throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static <T> T call(ContextView context, Callable<T> body) throws Exception {
+        String requestId = requestId(context);
+        if (requestId == null) {
+            return body.call();
+        }
+        String previousRequestId = MDC.get(RequestIdWebFilter.REQUEST_ID_KEY);
+        MDC.put(RequestIdWebFilter.REQUEST_ID_KEY, requestId);
+        try {
+            return body.call();
+        } finally {
+            if (previousRequestId != null) {
+                MDC.put(RequestIdWebFilter.REQUEST_ID_KEY, previousRequestId);
+            } else {
+                MDC.remove(RequestIdWebFilter.REQUEST_ID_KEY);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.aletheia.testservice.reactive;
+
+import com.aletheia.testservice.config.RequestIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// Reactive counterpart of RequestIdFilter. A request hops between event-loop and scheduler
+// threads, so the ID travels in the Reactor Context instead of the thread-local MDC.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestIdWebFilter implements WebFilter {
+
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_KEY = "request_id";
+
+    private final RequestIdGenerator generator;
+
+    public RequestIdWebFilter(@Value("${aletheia.request-id.generator:random}") String generator) {
+        this.generator = RequestIdGenerator.fromName(generator);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // Get request ID from header or generate new one
+        String header = exchange.getRequest().getHeaders().getFirst(REQUEST_ID_HEADER);
+        String requestId = header == null || header.isEmpty() ? generator.next() : header;
+
+        // Echo the ID so callers can correlate responses with server-side logs
+        exchange.getResponse().getHeaders().set(REQUEST_ID_HEADER, requestId);
+
+        return chain.filter(exchange).contextWrite(context -> context.put(REQUEST_ID_KEY, requestId));
+    }
+}
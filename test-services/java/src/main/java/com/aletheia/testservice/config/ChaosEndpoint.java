@@ -0,0 +1,61 @@
+package com.aletheia.testservice.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// /actuator/chaos shows the chaos filter's rules and injection counts; POST with
+// {"rules": "<spec>", "enabled": true} replaces the rules and/or switches the filter.
+@Component
+@Endpoint(id = "chaos")
+public class ChaosEndpoint {
+
+    private final ChaosFilter filter;
+
+    public ChaosEndpoint(ChaosFilter filter) {
+        this.filter = filter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> chaos() {
+        List<Map<String, Object>> rules = new ArrayList<>();
+        for (ChaosRule rule : filter.getRules()) {
+            Map<String, Object> r = new LinkedHashMap<>();
+            r.put("path", rule.path());
+            r.put("rate", rule.rate());
+            r.put("action", rule.action().name().toLowerCase(Locale.ROOT));
+            r.put("argument", rule.argument());
+            r.put("injected", (long) filter.getInjections(rule));
+            rules.add(r);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", filter.isEnabled());
+        result.put("rules", rules);
+        return result;
+    }
+
+    // Invalid rules answer 400 and leave the current rules in place
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> update(@Nullable String rules, @Nullable Boolean enabled) {
+        if (rules != null) {
+            try {
+                filter.setRules(ChaosRule.parseAll(rules));
+            } catch (IllegalArgumentException e) {
+                return new WebEndpointResponse<>(Map.of("error", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+        }
+        if (enabled != null) {
+            filter.setEnabled(enabled);
+        }
+        return new WebEndpointResponse<>(chaos());
+    }
+}
@@ -0,0 +1,309 @@
+package com.aletheia.testservice.config;
+
+import com.aletheia.testservice.fault.Distribution;
+import com.aletheia.testservice.fault.ErrorFault;
+import com.aletheia.testservice.fault.FaultInjector;
+import com.aletheia.testservice.fault.FaultInjectorRegistry;
+import com.aletheia.testservice.fault.LatencyInjector;
+import com.aletheia.testservice.metrics.ErrorMetrics;
+import com.aletheia.testservice.model.ErrorResponse;
+import com.aletheia.testservice.model.ErrorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Injects faults into a fraction of ordinary traffic, so errors show up the way they do in real
+// services instead of only on dedicated endpoints. Rules (see ChaosRule) are matched by path
+// prefix in order; each matching rule rolls ThreadLocalRandom independently, latency rules
+// continue down the chain and the first fault/status rule that fires ends the request.
+// Runs after RateLimitFilter, so shed requests are never counted here.
+@Component
+@Order(ChaosFilter.ORDER)
+public class ChaosFilter implements Filter {
+
+    public static final int ORDER = RateLimitFilter.ORDER + 10;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChaosFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final FaultInjectorRegistry faultInjectors;
+    private final LatencyInjector latencyInjector;
+    private final ErrorMetrics errorMetrics;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final ObjectMapper objectMapper;
+    private final List<String> excludedPrefixes;
+    private final Counter injected;
+    private final Counter passed;
+
+    private volatile boolean enabled;
+    // Replaced wholesale on update; the request path only ever reads it
+    private volatile ActiveRule[] rules;
+
+    public ChaosFilter(MeterRegistry meterRegistry, FaultInjectorRegistry faultInjectors,
+                       LatencyInjector latencyInjector, ErrorMetrics errorMetrics,
+                       @Lazy @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                       ObjectMapper objectMapper,
+                       @Value("${aletheia.chaos.enabled:false}") boolean enabled,
+                       @Value("${aletheia.chaos.rules:}") String rules,
+                       @Value("${aletheia.chaos.exclude:/actuator}") String exclude) {
+        this.meterRegistry = meterRegistry;
+        this.faultInjectors = faultInjectors;
+        this.latencyInjector = latencyInjector;
+        this.errorMetrics = errorMetrics;
+        this.exceptionResolver = exceptionResolver;
+        this.objectMapper = objectMapper;
+        this.excludedPrefixes = Arrays.stream(exclude.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+        this.injected = requestCounter(meterRegistry, "injected");
+        this.passed = requestCounter(meterRegistry, "passed");
+        this.rules = install(compile(ChaosRule.parseAll(rules)));
+        this.enabled = enabled;
+        if (enabled) {
+            logger.info("Chaos filter enabled: {}", getRules());
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("chaos_requests_total")
+                .description("Requests seen by the chaos filter, by whether a fault was injected")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        logger.warn("Chaos filter {}", enabled ? "enabled" : "disabled");
+    }
+
+    public List<ChaosRule> getRules() {
+        List<ChaosRule> result = new ArrayList<>();
+        for (ActiveRule rule : rules) {
+            result.add(rule.rule);
+        }
+        return result;
+    }
+
+    public double getInjections(ChaosRule rule) {
+        for (ActiveRule active : rules) {
+            if (active.rule.equals(rule)) {
+                return active.injections.count();
+            }
+        }
+        return 0;
+    }
+
+    // Validates everything before swapping, so a bad spec leaves the current rules in place.
+    // Counters of the replaced rules are removed, so a rule that comes back starts from zero.
+    public synchronized void setRules(List<ChaosRule> rules) {
+        ActiveRule[] compiled = compile(rules);
+        for (ActiveRule rule : this.rules) {
+            meterRegistry.remove(rule.injections);
+        }
+        this.rules = install(compiled);
+        logger.warn("Chaos rules set to {}", rules);
+    }
+
+    // Resolves injectors and distributions without installing the rules or registering meters
+    public void validate(List<ChaosRule> rules) {
+        compile(rules);
+    }
+
+    private ActiveRule[] install(ActiveRule[] compiled) {
+        for (ActiveRule rule : compiled) {
+            rule.injections = Counter.builder("chaos_injections_total")
+                    .description("Faults injected by each chaos rule")
+                    .tag("path", rule.path)
+                    .tag("action", rule.action.name().toLowerCase(Locale.ROOT))
+                    .tag("argument", rule.rule.argument() != null ? rule.rule.argument() : String.valueOf(rule.status))
+                    .register(meterRegistry);
+        }
+        return compiled;
+    }
+
+    private ActiveRule[] compile(List<ChaosRule> rules) {
+        ActiveRule[] compiled = new ActiveRule[rules.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = new ActiveRule(rules.get(i));
+        }
+        return compiled;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String path = httpRequest.getRequestURI();
+        if (!enabled || isExcluded(path)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean delayed = false;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (ActiveRule rule : rules) {
+            if (!path.startsWith(rule.path) || random.nextDouble() >= rule.rate) {
+                continue;
+            }
+            switch (rule.action) {
+                case LATENCY -> {
+                    rule.injections.increment();
+                    latencyInjector.delay(rule.distribution, LatencyInjector.Source.CHAOS_FILTER);
+                    delayed = true;
+                }
+                case STATUS -> {
+                    rule.injections.increment();
+                    injected.increment();
+                    writeStatus(path, rule.status, (HttpServletResponse) response);
+                    return;
+                }
+                case FAULT -> {
+                    if (rule.injector.admit()) {
+                        rule.injections.increment();
+                        if (raise(path, rule, httpRequest, (HttpServletResponse) response)) {
+                            injected.increment();
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+
+        (delayed ? injected : passed).increment();
+        chain.doFilter(request, response);
+    }
+
+    private boolean isExcluded(String path) {
+        for (String prefix : excludedPrefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Hands whatever the injector throws to GlobalExceptionHandler, so the log line and
+    // response body match a failure thrown from a controller. Error faults are counted the
+    // way ErrorController counts them, so chaos errors show up on the same dashboards.
+    private boolean raise(String path, ActiveRule rule, HttpServletRequest request, HttpServletResponse response)
+            throws ServletException {
+        if (rule.errorType != null) {
+            errorMetrics.countError(rule.errorType);
+        }
+        try {
+            rule.injector.injector().inject(rule.parameters);
+            return false;
+        } catch (OutOfMemoryError e) {
+            if (rule.errorType != null) {
+                errorMetrics.countExceptionThrown(rule.errorType);
+            }
+            throw e;
+        } catch (Exception e) {
+            if (rule.errorType != null) {
+                errorMetrics.countExceptionThrown(rule.errorType);
+            }
+            logger.debug("Injected {} into {} (request_id={})", rule.injector.name(), path, MDC.get("request_id"));
+            if (exceptionResolver.resolveException(request, response, null, e) == null) {
+                throw new ServletException(e);
+            }
+            return true;
+        }
+    }
+
+    private void writeStatus(String path, int status, HttpServletResponse response) throws IOException {
+        String requestId = MDC.get("request_id");
+        logger.error("Injected HTTP {} into {} (request_id={})", status, path, requestId);
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("Injected HTTP " + status, "injected_status", null, requestId, null));
+    }
+
+    private final class ActiveRule {
+
+        private final ChaosRule rule;
+        private final String path;
+        private final double rate;
+        private final ChaosRule.Action action;
+        private final Distribution distribution;
+        private final FaultInjectorRegistry.Entry injector;
+        private final FaultInjector.Parameters parameters;
+        private final ErrorType errorType;
+        private final int status;
+        // Set by install(), before the rule is published through the volatile rules array
+        private Counter injections;
+
+        private ActiveRule(ChaosRule rule) {
+            this.rule = rule;
+            this.path = rule.path();
+            this.rate = rule.rate();
+            this.action = rule.action();
+            this.distribution = action == ChaosRule.Action.LATENCY ? Distribution.parse(rule.argument()) : null;
+            if (action == ChaosRule.Action.FAULT) {
+                FaultInjectorRegistry.Entry entry = faultInjectors.find(rule.argument());
+                if (entry == null) {
+                    throw new IllegalArgumentException("Unknown fault injector '" + rule.argument() + "' in chaos rule " + rule);
+                }
+                if (entry.injector().strategy() != FaultInjector.Strategy.SYNC) {
+                    throw new IllegalArgumentException("Chaos rules can only run sync fault injectors, '"
+                            + rule.argument() + "' is " + entry.injector().strategy().name().toLowerCase(Locale.ROOT));
+                }
+                this.injector = entry;
+                // Declared defaults only; the request's own query parameters belong to its handler
+                this.parameters = entry.parameters(name -> null);
+                this.errorType = entry.injector() instanceof ErrorFault fault ? fault.type() : null;
+            } else {
+                this.injector = null;
+                this.parameters = null;
+                this.errorType = null;
+            }
+            this.status = action == ChaosRule.Action.STATUS ? parseStatus(rule.argument()) : 0;
+        }
+
+        private static int parseStatus(String argument) {
+            if (argument == null) {
+                return 500;
+            }
+            int status;
+            try {
+                status = Integer.parseInt(argument);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid chaos status '" + argument + "'");
+            }
+            if (status < 500 || status > 599) {
+                throw new IllegalArgumentException("Chaos status must be a 5xx code, got " + status);
+            }
+            return status;
+        }
+    }
+}
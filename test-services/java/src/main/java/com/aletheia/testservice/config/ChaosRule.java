@@ -0,0 +1,74 @@
+package com.aletheia.testservice.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// One ChaosFilter rule: "<path prefix>=<rate>:<action>[:<argument>]", where rate is a
+// fraction (0.001) or percentage (0.1%) and action is one of
+//   fault:<injector>   run a sync FaultInjector, e.g. fault:npe or fault:exception_chain
+//   latency:<dist>     delay then continue, e.g. latency:lognormal:100,0.8
+//   status[:<code>]    answer with a 5xx (default 500) without reaching the handler
+// Rules are separated by ';' since distribution arguments contain commas.
+public record ChaosRule(String path, double rate, Action action, String argument) {
+
+    public enum Action {
+        FAULT, LATENCY, STATUS
+    }
+
+    public ChaosRule {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            throw new IllegalArgumentException("Chaos rule path must start with '/': '" + path + "'");
+        }
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Chaos rule rate must be between 0 and 1, got " + rate);
+        }
+    }
+
+    public static List<ChaosRule> parseAll(String spec) {
+        List<ChaosRule> rules = new ArrayList<>();
+        for (String entry : spec.split(";")) {
+            if (!entry.isBlank()) {
+                rules.add(parse(entry.trim()));
+            }
+        }
+        return List.copyOf(rules);
+    }
+
+    public static ChaosRule parse(String spec) {
+        int equals = spec.indexOf('=');
+        if (equals <= 0) {
+            throw new IllegalArgumentException("Invalid chaos rule '" + spec + "', expected <path>=<rate>:<action>[:<argument>]");
+        }
+        String[] parts = spec.substring(equals + 1).split(":", 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Invalid chaos rule '" + spec + "', expected <path>=<rate>:<action>[:<argument>]");
+        }
+        Action action;
+        try {
+            action = Action.valueOf(parts[1].trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown chaos action '" + parts[1] + "', expected fault, latency or status");
+        }
+        String argument = parts.length > 2 ? parts[2].trim() : null;
+        if (argument == null && action != Action.STATUS) {
+            throw new IllegalArgumentException("Chaos action '" + parts[1] + "' needs an argument in '" + spec + "'");
+        }
+        return new ChaosRule(spec.substring(0, equals).trim(), parseRate(parts[0].trim()), action, argument);
+    }
+
+    private static double parseRate(String rate) {
+        try {
+            return rate.endsWith("%")
+                    ? Double.parseDouble(rate.substring(0, rate.length() - 1)) / 100
+                    : Double.parseDouble(rate);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid chaos rule rate '" + rate + "'");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path + "=" + rate + ":" + action.name().toLowerCase(Locale.ROOT) + (argument != null ? ":" + argument : "");
+    }
+}
@@ -0,0 +1,121 @@
+package com.aletheia.testservice.config;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Caps requests in flight. FIXED keeps the initial limit; AIMD adds one after a fast response
+// while the limit is in use and cuts it by a ratio after a slow one; GRADIENT compares short-
+// and long-term latency and shrinks the limit as queueing pushes the short-term value up.
+public class ConcurrencyLimit {
+
+    public enum Mode {
+        NONE,
+        FIXED,
+        AIMD,
+        GRADIENT;
+
+        public static Mode fromName(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown concurrency limit mode '" + name
+                        + "', expected one of none, fixed, aimd, gradient");
+            }
+        }
+    }
+
+    private static final double AIMD_BACKOFF_RATIO = 0.9;
+    private static final double GRADIENT_SMOOTHING = 0.2;
+    private static final double LONG_RTT_WINDOW = 600;
+
+    private final Mode mode;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    // Only touched inside onSample, which is synchronized
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public ConcurrencyLimit(Mode mode, int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.mode = mode;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        if (mode == Mode.NONE) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Called once per admitted request with its service time
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (mode == Mode.AIMD || mode == Mode.GRADIENT) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (mode == Mode.AIMD) {
+            if (rttNanos > latencyThresholdNanos) {
+                estimatedLimit = estimatedLimit * AIMD_BACKOFF_RATIO;
+            } else if (inFlightAtCompletion * 2 >= limit) {
+                // Only grow when the limit is actually being exercised
+                estimatedLimit = estimatedLimit + 1;
+            }
+        } else {
+            if (longRttNanos == 0) {
+                longRttNanos = rttNanos;
+            } else {
+                longRttNanos += (rttNanos - longRttNanos) / LONG_RTT_WINDOW;
+            }
+            // Recover faster once a latency spike has passed
+            if (longRttNanos / rttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+            // Latency noise at low load says nothing about the limit
+            if (inFlightAtCompletion * 2 < limit) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, longRttNanos / rttNanos));
+            double queueSize = Math.sqrt(estimatedLimit);
+            double newLimit = estimatedLimit * gradient + queueSize;
+            estimatedLimit = estimatedLimit * (1 - GRADIENT_SMOOTHING) + newLimit * GRADIENT_SMOOTHING;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
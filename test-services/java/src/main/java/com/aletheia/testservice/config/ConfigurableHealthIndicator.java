@@ -1,5 +1,6 @@
 package com.aletheia.testservice.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
@@ -7,22 +8,49 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 
+// Probes hit this constantly, so everything a probe can return is built up front: the failure
+// points are fixed offsets from a nanoTime origin and each state maps to one immutable Health.
+// A probe is then a nanoTime read, a compare and a volatile read, with no allocation.
 @Component
 public class ConfigurableHealthIndicator implements HealthIndicator {
 
-    private final Instant startTime;
-    private final Duration livenessFailAfter;
-    private final Duration readinessFailAfter;
+    private static final Health UP = Health.up().build();
 
+    private final long startNanos;
+    // Long.MAX_VALUE when the probe is never configured to fail
+    private final long livenessFailAfterNanos;
+    private final long readinessFailAfterNanos;
+    private final Health livenessDown;
+    private final Health readinessDown;
+    // Set while a scenario phase holds the probe down; null otherwise
+    private volatile Health livenessOverride;
+    private volatile Health readinessOverride;
+
+    @Autowired
     public ConfigurableHealthIndicator() {
-        this.startTime = Instant.now();
-        
         // Read configuration from environment variables
-        String livenessEnv = System.getenv("FAIL_LIVENESS_AFTER");
-        this.livenessFailAfter = livenessEnv != null ? parseDuration(livenessEnv) : null;
-        
-        String readinessEnv = System.getenv("FAIL_READINESS_AFTER");
-        this.readinessFailAfter = readinessEnv != null ? parseDuration(readinessEnv) : null;
+        this(parseDuration(System.getenv("FAIL_LIVENESS_AFTER")), parseDuration(System.getenv("FAIL_READINESS_AFTER")));
+    }
+
+    public ConfigurableHealthIndicator(Duration livenessFailAfter, Duration readinessFailAfter) {
+        Instant startTime = Instant.now();
+        this.startNanos = System.nanoTime();
+        this.livenessFailAfterNanos = livenessFailAfter != null ? livenessFailAfter.toNanos() : Long.MAX_VALUE;
+        this.readinessFailAfterNanos = readinessFailAfter != null ? readinessFailAfter.toNanos() : Long.MAX_VALUE;
+        this.livenessDown = livenessFailAfter != null
+                ? configuredFailure("Liveness check failed (configured failure)", startTime, livenessFailAfter)
+                : null;
+        this.readinessDown = readinessFailAfter != null
+                ? configuredFailure("Readiness check failed (configured failure)", startTime, readinessFailAfter)
+                : null;
+    }
+
+    private static Health configuredFailure(String reason, Instant startTime, Duration failAfter) {
+        return Health.down()
+                .withDetail("reason", reason)
+                .withDetail("fail_after", failAfter.toString())
+                .withDetail("failing_since", startTime.plus(failAfter).toString())
+                .build();
     }
 
     @Override
@@ -31,37 +59,34 @@ public class ConfigurableHealthIndicator implements HealthIndicator {
         return checkReadiness();
     }
 
+    public void setLivenessOverride(String reason) {
+        this.livenessOverride = reason != null ? Health.down().withDetail("reason", reason).build() : null;
+    }
+
+    public void setReadinessOverride(String reason) {
+        this.readinessOverride = reason != null ? Health.down().withDetail("reason", reason).build() : null;
+    }
+
     public Health checkLiveness() {
-        if (livenessFailAfter != null) {
-            Duration uptime = Duration.between(startTime, Instant.now());
-            if (uptime.compareTo(livenessFailAfter) >= 0) {
-                return Health.down()
-                        .withDetail("reason", "Liveness check failed (configured failure)")
-                        .withDetail("uptime", uptime.toString())
-                        .withDetail("fail_after", livenessFailAfter.toString())
-                        .build();
-            }
+        Health override = livenessOverride;
+        if (override != null) {
+            return override;
         }
-        
-        return Health.up().build();
+        return System.nanoTime() - startNanos >= livenessFailAfterNanos ? livenessDown : UP;
     }
 
     public Health checkReadiness() {
-        if (readinessFailAfter != null) {
-            Duration uptime = Duration.between(startTime, Instant.now());
-            if (uptime.compareTo(readinessFailAfter) >= 0) {
-                return Health.down()
-                        .withDetail("reason", "Readiness check failed (configured failure)")
-                        .withDetail("uptime", uptime.toString())
-                        .withDetail("fail_after", readinessFailAfter.toString())
-                        .build();
-            }
+        Health override = readinessOverride;
+        if (override != null) {
+            return override;
         }
-        
-        return Health.up().build();
+        return System.nanoTime() - startNanos >= readinessFailAfterNanos ? readinessDown : UP;
     }
 
-    private Duration parseDuration(String durationStr) {
+    private static Duration parseDuration(String durationStr) {
+        if (durationStr == null) {
+            return null;
+        }
         try {
             // Support formats like "30s", "1m", "5m30s", etc.
             if (durationStr.matches("\\d+s")) {
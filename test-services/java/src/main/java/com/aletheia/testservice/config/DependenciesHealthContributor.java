@@ -0,0 +1,216 @@
+package com.aletheia.testservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Shows up as the "dependencies" component of /actuator/health, next to ConfigurableHealthIndicator.
+// Spring Boot walks the children of a composite one after another, so a slow dependency would
+// add its whole latency to the probe. Instead, the first child evaluated in a walk starts every
+// check at once on virtual threads and each child only waits for its own result, bounded by that
+// dependency's timeout measured from the start of the round: the aggregate costs the slowest
+// timeout, not the sum. A check that times out is answered from its last successful result.
+//
+// Boot iterates this composite on walks that evaluate none of its children (liveness, or a
+// readiness group that leaves it out), so iterator() only prepares a round. Every check is also
+// interrupted at its deadline by the canceller, whether or not anyone is still waiting for it.
+@Component
+public class DependenciesHealthContributor implements CompositeHealthContributor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DependenciesHealthContributor.class);
+
+    private final Map<String, Probe> probes;
+    private final boolean parallel;
+    private final boolean fallback;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService canceller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dependency-health-canceller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DependenciesHealthContributor(MeterRegistry meterRegistry,
+                                         @Value("${aletheia.health.dependencies.spec:}") String spec,
+                                         @Value("${aletheia.health.dependencies.timeout:1s}") Duration timeout,
+                                         @Value("${aletheia.health.dependencies.parallel:true}") boolean parallel,
+                                         @Value("${aletheia.health.dependencies.fallback:true}") boolean fallback) {
+        Map<String, Probe> byName = new LinkedHashMap<>();
+        for (SimulatedDependency dependency : SimulatedDependency.parseAll(spec, timeout)) {
+            byName.put(dependency.name(), new Probe(dependency, meterRegistry));
+        }
+        this.probes = byName;
+        this.parallel = parallel;
+        this.fallback = fallback;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dependency-health-", 0).factory());
+        if (!probes.isEmpty()) {
+            logger.info("Simulated health dependencies: {} ({} evaluation, fallback={})",
+                    probes.keySet(), parallel ? "parallel" : "sequential", fallback);
+        }
+    }
+
+    // Returns null for unknown names
+    public SimulatedDependency find(String name) {
+        Probe probe = probes.get(name);
+        return probe != null ? probe.dependency : null;
+    }
+
+    public List<SimulatedDependency> dependencies() {
+        List<SimulatedDependency> dependencies = new ArrayList<>(probes.size());
+        for (Probe probe : probes.values()) {
+            dependencies.add(probe.dependency);
+        }
+        return dependencies;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    public HealthContributor getContributor(String name) {
+        Probe probe = probes.get(name);
+        return probe != null ? (HealthIndicator) () -> evaluate(probe) : null;
+    }
+
+    // Called once per walk of the health tree, including walks that never evaluate a child
+    @Override
+    public Iterator<NamedContributor<HealthContributor>> iterator() {
+        List<NamedContributor<HealthContributor>> children = new ArrayList<>(probes.size());
+        Round round = parallel ? new Round() : null;
+        for (Probe probe : probes.values()) {
+            children.add(NamedContributor.of(probe.dependency.name(),
+                    (HealthIndicator) () -> round != null ? round.await(probe) : evaluate(probe)));
+        }
+        return children.iterator();
+    }
+
+    private Health evaluate(Probe probe) {
+        long startNanos = System.nanoTime();
+        return await(probe, submit(probe, startNanos), startNanos);
+    }
+
+    private Future<Health> submit(Probe probe, long startNanos) {
+        Future<Health> check = executor.submit(() -> probe.check(startNanos));
+        canceller.schedule(() -> check.cancel(true),
+                probe.timeoutNanos - (System.nanoTime() - startNanos), TimeUnit.NANOSECONDS);
+        return check;
+    }
+
+    private Health await(Probe probe, Future<Health> check, long startNanos) {
+        long remaining = probe.timeoutNanos - (System.nanoTime() - startNanos);
+        try {
+            return check.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            // The canceller may get there first, in which case get() sees the cancellation
+            check.cancel(true);
+            probe.timedOut.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            Health lastGood = fallback ? probe.dependency.lastKnownGood() : null;
+            if (lastGood != null) {
+                probe.fallbacks.increment();
+                return lastGood;
+            }
+            return Health.down()
+                    .withDetail("error", "Health check timed out after " + probe.dependency.timeout())
+                    .withDetail("timed_out_after", probe.dependency.timeout().toString())
+                    .build();
+        } catch (ExecutionException e) {
+            return Health.down(e.getCause() instanceof Exception cause ? cause : e).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            check.cancel(true);
+            return Health.unknown().withDetail("error", "Interrupted while waiting for the health check").build();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        canceller.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    // One walk's checks, started by whichever child is evaluated first
+    private final class Round {
+        private final Map<Probe, Future<Health>> checks = new HashMap<>();
+        private long startNanos;
+
+        Health await(Probe probe) {
+            Future<Health> check;
+            long start;
+            synchronized (this) {
+                if (checks.isEmpty()) {
+                    startNanos = System.nanoTime();
+                    for (Probe each : probes.values()) {
+                        checks.put(each, submit(each, startNanos));
+                    }
+                }
+                check = checks.get(probe);
+                start = startNanos;
+            }
+            return DependenciesHealthContributor.this.await(probe, check, start);
+        }
+    }
+
+    private static final class Probe {
+        final SimulatedDependency dependency;
+        final long timeoutNanos;
+        final Timer up;
+        final Timer down;
+        final Timer timedOut;
+        final Counter fallbacks;
+
+        Probe(SimulatedDependency dependency, MeterRegistry meterRegistry) {
+            this.dependency = dependency;
+            this.timeoutNanos = dependency.timeout().toNanos();
+            this.up = timer(meterRegistry, dependency.name(), "up");
+            this.down = timer(meterRegistry, dependency.name(), "down");
+            this.timedOut = timer(meterRegistry, dependency.name(), "timeout");
+            this.fallbacks = Counter.builder("dependency_health_fallbacks_total")
+                    .description("Timed out dependency checks answered with the last known good result")
+                    .tag("dependency", dependency.name())
+                    .register(meterRegistry);
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, String dependency, String outcome) {
+            return Timer.builder("dependency_health_check_duration")
+                    .description("Simulated dependency health check duration")
+                    .tag("dependency", dependency)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        // Interrupted checks record nothing here; the waiting side records them as timeouts
+        Health check(long startNanos) throws InterruptedException {
+            Health health = dependency.check();
+            (Status.UP.equals(health.getStatus()) ? up : down)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return health;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.aletheia.testservice.config;
+
+import com.aletheia.testservice.exception.ErrorResponseSerializer;
+import com.aletheia.testservice.exception.StackTraceCache;
+import com.aletheia.testservice.model.ErrorResponse;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Spring Boot registers Module beans with the auto-configured ObjectMapper
+    @Bean
+    public Module errorResponseModule(StackTraceCache stackTraceCache) {
+        SimpleModule module = new SimpleModule("ErrorResponseModule");
+        module.addSerializer(ErrorResponse.class, new ErrorResponseSerializer(stackTraceCache));
+        return module;
+    }
+}
@@ -0,0 +1,236 @@
+package com.aletheia.testservice.config;
+
+import com.aletheia.testservice.model.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Sheds load before it reaches the controllers: per-endpoint and global token buckets
+// answer 429, the concurrency limit answers 503. Runs after Spring's observation filter,
+// so rejections still show up in http_server_requests, and after RequestIdFilter, so
+// rejected responses carry a request ID.
+@Component
+@Order(RateLimitFilter.ORDER)
+public class RateLimitFilter implements Filter {
+
+    public static final int ORDER = RequestIdFilter.ORDER + 10;
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final boolean enabled;
+    private final TokenBucket globalBucket;
+    private final Map<String, TokenBucket> endpointBuckets;
+    private final List<String> excludedPrefixes;
+    private final ConcurrencyLimit concurrencyLimit;
+    private final ObjectMapper objectMapper;
+
+    private final Counter admitted;
+    private final Counter rejectedEndpointRate;
+    private final Counter rejectedGlobalRate;
+    private final Counter rejectedConcurrency;
+
+    public RateLimitFilter(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                           @Value("${aletheia.rate-limit.enabled:false}") boolean enabled,
+                           @Value("${aletheia.rate-limit.global:}") String globalSpec,
+                           @Value("${aletheia.rate-limit.endpoints:}") String endpointSpecs,
+                           @Value("${aletheia.rate-limit.exclude:/actuator}") String exclude,
+                           @Value("${aletheia.rate-limit.concurrency.mode:none}") String mode,
+                           @Value("${aletheia.rate-limit.concurrency.initial-limit:50}") int initialLimit,
+                           @Value("${aletheia.rate-limit.concurrency.min-limit:4}") int minLimit,
+                           @Value("${aletheia.rate-limit.concurrency.max-limit:500}") int maxLimit,
+                           @Value("${aletheia.rate-limit.concurrency.latency-threshold:500ms}") Duration latencyThreshold) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.globalBucket = globalSpec.isBlank() ? null : TokenBucket.parse(globalSpec);
+        this.endpointBuckets = parseEndpoints(endpointSpecs);
+        this.excludedPrefixes = Arrays.stream(exclude.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+        this.concurrencyLimit = new ConcurrencyLimit(ConcurrencyLimit.Mode.fromName(mode),
+                initialLimit, minLimit, maxLimit, latencyThreshold);
+
+        this.admitted = Counter.builder("rate_limit_admitted_total")
+                .description("Requests admitted by the rate limit filter")
+                .register(meterRegistry);
+        this.rejectedEndpointRate = rejectedCounter(meterRegistry, "endpoint_rate");
+        this.rejectedGlobalRate = rejectedCounter(meterRegistry, "global_rate");
+        this.rejectedConcurrency = rejectedCounter(meterRegistry, "concurrency");
+        Gauge.builder("rate_limit_in_flight_requests", concurrencyLimit, ConcurrencyLimit::getInFlight)
+                .description("Admitted requests still being processed")
+                .register(meterRegistry);
+        if (concurrencyLimit.getMode() != ConcurrencyLimit.Mode.NONE) {
+            Gauge.builder("rate_limit_concurrency_limit", concurrencyLimit, ConcurrencyLimit::getLimit)
+                    .description("Current concurrency limit")
+                    .tag("mode", concurrencyLimit.getMode().name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+
+        if (enabled) {
+            logger.info("Rate limiting enabled: global={}, endpoints={}, concurrency={} (initial limit {})",
+                    globalSpec.isBlank() ? "none" : globalSpec, endpointBuckets.keySet(),
+                    concurrencyLimit.getMode(), initialLimit);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("rate_limit_rejected_total")
+                .description("Requests rejected by the rate limit filter")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // "<path>=<rate spec>,<path>=<rate spec>", paths matched exactly against the request URI
+    private static Map<String, TokenBucket> parseEndpoints(String specs) {
+        Map<String, TokenBucket> buckets = new HashMap<>();
+        for (String entry : specs.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int equals = entry.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Invalid endpoint rate limit '" + entry + "', expected <path>=<rate spec>");
+            }
+            buckets.put(entry.substring(0, equals).trim(), TokenBucket.parse(entry.substring(equals + 1)));
+        }
+        return Map.copyOf(buckets);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String path = httpRequest.getRequestURI();
+        if (!enabled || isExcluded(path)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        TokenBucket endpointBucket = endpointBuckets.get(path);
+        if (endpointBucket != null && !endpointBucket.tryAcquire()) {
+            rejectedEndpointRate.increment();
+            reject(httpResponse, HttpStatus.TOO_MANY_REQUESTS, "rate_limited",
+                    "Rate limit exceeded for " + path, endpointBucket.nanosUntilAvailable());
+            return;
+        }
+        if (globalBucket != null && !globalBucket.tryAcquire()) {
+            rejectedGlobalRate.increment();
+            reject(httpResponse, HttpStatus.TOO_MANY_REQUESTS, "rate_limited",
+                    "Global rate limit exceeded", globalBucket.nanosUntilAvailable());
+            return;
+        }
+        if (!concurrencyLimit.tryAcquire()) {
+            rejectedConcurrency.increment();
+            reject(httpResponse, HttpStatus.SERVICE_UNAVAILABLE, "concurrency_limited",
+                    "Concurrency limit of " + concurrencyLimit.getLimit() + " reached", 0);
+            return;
+        }
+
+        admitted.increment();
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            // Async handlers (e.g. /api/v1/latency) finish after this returns
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                concurrencyLimit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private boolean isExcluded(String path) {
+        for (String prefix : excludedPrefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String errorType,
+                        String message, long retryAfterNanos) throws IOException {
+        String requestId = MDC.get("request_id");
+        logger.debug("Rejected request (request_id={}): {}", requestId, message);
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (retryAfterNanos > 0) {
+            long seconds = Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setHeader("Retry-After", Long.toString(seconds));
+        }
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(message, errorType, null, requestId, null));
+    }
+
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(long start) {
+            this.start = start;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimit.release(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-register for the new async cycle
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -2,17 +2,41 @@ package com.aletheia.testservice.config;
 
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.UUID;
 
+// Runs just after Spring's observation filter (HIGHEST_PRECEDENCE + 1) and ahead of
+// RateLimitFilter, so every response, rejected or not, carries a request ID
 @Component
+@Order(RequestIdFilter.ORDER)
 public class RequestIdFilter implements Filter {
 
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
     private static final String REQUEST_ID_HEADER = "X-Request-Id";
     private static final String REQUEST_ID_KEY = "request_id";
+    public static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
+
+    private final RequestIdGenerator generator;
+
+    @Autowired
+    public RequestIdFilter(@Value("${aletheia.request-id.generator:random}") String generator) {
+        this(RequestIdGenerator.fromName(generator));
+    }
+
+    public RequestIdFilter(RequestIdGenerator generator) {
+        this.generator = generator;
+    }
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -20,20 +44,50 @@ public class RequestIdFilter implements Filter {
         
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         
-        // Get request ID from header or generate new one
-        String requestId = httpRequest.getHeader(REQUEST_ID_HEADER);
+        // Async dispatches resume a request that already has an ID; otherwise take it from the
+        // header or generate a new one
+        String requestId = request.getDispatcherType() == DispatcherType.ASYNC
+                ? (String) httpRequest.getAttribute(REQUEST_ID_ATTRIBUTE)
+                : httpRequest.getHeader(REQUEST_ID_HEADER);
         if (requestId == null || requestId.isEmpty()) {
-            requestId = UUID.randomUUID().toString();
+            requestId = generator.next();
         }
+
+        // Echo the ID so callers can correlate responses with server-side logs
+        ((HttpServletResponse) response).setHeader(REQUEST_ID_HEADER, requestId);
         
-        // Set request ID in MDC for logging
+        // Keep the ID on the request so work handed off to other threads can restore it
+        httpRequest.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+
+        // Set request ID in MDC for logging. MDC is thread-local, so this holds for both
+        // pooled platform threads and per-request virtual threads; restore whatever was
+        // there before so nested dispatches don't clear the outer request's ID.
+        String previousRequestId = MDC.get(REQUEST_ID_KEY);
         MDC.put(REQUEST_ID_KEY, requestId);
         
         try {
             chain.doFilter(request, response);
         } finally {
             // Clean up MDC
-            MDC.remove(REQUEST_ID_KEY);
+            if (previousRequestId != null) {
+                MDC.put(REQUEST_ID_KEY, previousRequestId);
+            } else {
+                MDC.remove(REQUEST_ID_KEY);
+            }
+        }
+    }
+
+    // Also run on async dispatches, so exceptions completing async handlers are handled and
+    // logged with the original request's ID
+    @Configuration
+    static class Registration {
+
+        @Bean
+        FilterRegistrationBean<RequestIdFilter> requestIdFilterRegistration(RequestIdFilter filter) {
+            FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+            registration.setOrder(ORDER);
+            return registration;
         }
     }
 }
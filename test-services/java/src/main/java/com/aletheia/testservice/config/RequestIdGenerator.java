@@ -0,0 +1,65 @@
+package com.aletheia.testservice.config;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedEpochGenerator;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Strategies for generating request IDs when the caller doesn't send X-Request-Id.
+// All of them produce canonical 36-character UUID strings.
+public enum RequestIdGenerator {
+
+    // java.util.UUID v4 backed by the shared SecureRandom; contends under load
+    UUID {
+        @Override
+        public String next() {
+            return java.util.UUID.randomUUID().toString();
+        }
+    },
+
+    // v4 layout from ThreadLocalRandom: no shared state, the UUID is not escaped
+    RANDOM {
+        @Override
+        public String next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb).toString();
+        }
+    },
+
+    // v7 layout (48-bit epoch millis + random) without a shared counter, so IDs are
+    // time-ordered across requests but not strictly monotonic within a millisecond
+    TIME {
+        @Override
+        public String next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0FFF);
+            long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb).toString();
+        }
+    },
+
+    // Monotonic UUIDv7 from java-uuid-generator; serialised by the generator's lock
+    UUID7 {
+        private final TimeBasedEpochGenerator generator = Generators.timeBasedEpochGenerator();
+
+        @Override
+        public String next() {
+            return generator.generate().toString();
+        }
+    };
+
+    public abstract String next();
+
+    public static RequestIdGenerator fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown request ID generator '" + name
+                    + "', expected one of uuid, random, time, uuid7");
+        }
+    }
+}
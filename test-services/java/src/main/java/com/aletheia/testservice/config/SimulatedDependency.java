@@ -0,0 +1,191 @@
+package com.aletheia.testservice.config;
+
+import com.aletheia.testservice.fault.Distribution;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// A downstream that a real readiness check would block on (database, cache, broker). A check
+// sleeps for a sampled latency and then fails with the configured probability; FAIL always
+// fails and HANG blocks until the caller gives up and interrupts it, like a socket read with
+// no timeout. Parsed from "<name>[?latency=<dist>&failure_rate=<rate>&mode=<mode>&timeout=<duration>]",
+// entries separated by ';' since distribution arguments contain commas.
+public final class SimulatedDependency {
+
+    private static final Pattern NAME = Pattern.compile("[a-z][a-z0-9_-]*");
+    private static final String DEFAULT_LATENCY = "fixed:5";
+
+    public enum Mode {
+        NORMAL, FAIL, HANG;
+
+        public static Mode parse(String mode) {
+            try {
+                return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown dependency mode '" + mode + "', expected normal, fail or hang");
+            }
+        }
+    }
+
+    // Swapped as a whole so a check never sees half of an update
+    private record Behaviour(String latencySpec, Distribution latency, double failureRate, Mode mode) {
+    }
+
+    private record LastGood(Health health, Instant at) {
+    }
+
+    private final String name;
+    private final Duration timeout;
+    private volatile Behaviour behaviour;
+    private volatile LastGood lastGood;
+
+    public SimulatedDependency(String name, String latency, double failureRate, Mode mode, Duration timeout) {
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Dependency name '" + name + "' must be lower-case, e.g. database or redis-cache");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Dependency '" + name + "' timeout must be positive");
+        }
+        this.name = name;
+        this.timeout = timeout;
+        this.behaviour = behaviour(latency, failureRate, mode);
+    }
+
+    public static List<SimulatedDependency> parseAll(String spec, Duration defaultTimeout) {
+        List<SimulatedDependency> dependencies = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (String entry : spec.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            SimulatedDependency dependency = parse(entry.trim(), defaultTimeout);
+            if (!names.add(dependency.name())) {
+                throw new IllegalArgumentException("Dependency '" + dependency.name() + "' is configured twice");
+            }
+            dependencies.add(dependency);
+        }
+        return List.copyOf(dependencies);
+    }
+
+    public static SimulatedDependency parse(String spec, Duration defaultTimeout) {
+        int query = spec.indexOf('?');
+        String name = (query < 0 ? spec : spec.substring(0, query)).trim();
+        String latency = DEFAULT_LATENCY;
+        double failureRate = 0;
+        Mode mode = Mode.NORMAL;
+        Duration timeout = defaultTimeout;
+        if (query >= 0) {
+            for (String param : spec.substring(query + 1).split("&")) {
+                int equals = param.indexOf('=');
+                if (equals <= 0) {
+                    throw new IllegalArgumentException("Invalid parameter '" + param + "' for dependency '" + name + "', expected <key>=<value>");
+                }
+                String value = param.substring(equals + 1).trim();
+                switch (param.substring(0, equals).trim()) {
+                    case "latency" -> latency = value;
+                    case "failure_rate" -> failureRate = parseRate(value);
+                    case "mode" -> mode = Mode.parse(value);
+                    case "timeout" -> timeout = DurationStyle.detectAndParse(value);
+                    default -> throw new IllegalArgumentException("Unknown parameter '" + param.substring(0, equals)
+                            + "' for dependency '" + name + "', expected latency, failure_rate, mode or timeout");
+                }
+            }
+        }
+        return new SimulatedDependency(name, latency, failureRate, mode, timeout);
+    }
+
+    public static double parseRate(String rate) {
+        try {
+            return rate.endsWith("%")
+                    ? Double.parseDouble(rate.substring(0, rate.length() - 1)) / 100
+                    : Double.parseDouble(rate);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid failure rate '" + rate + "'");
+        }
+    }
+
+    private static Behaviour behaviour(String latency, double failureRate, Mode mode) {
+        if (!(failureRate >= 0 && failureRate <= 1)) {
+            throw new IllegalArgumentException("Dependency failure rate must be between 0 and 1, got " + failureRate);
+        }
+        return new Behaviour(latency, Distribution.parse(latency), failureRate, mode);
+    }
+
+    // Null arguments keep the current value
+    public void update(String latency, Double failureRate, Mode mode) {
+        Behaviour current = behaviour;
+        this.behaviour = behaviour(
+                latency != null ? latency : current.latencySpec(),
+                failureRate != null ? failureRate : current.failureRate(),
+                mode != null ? mode : current.mode());
+    }
+
+    public Health check() throws InterruptedException {
+        Behaviour current = behaviour;
+        if (current.mode() == Mode.HANG) {
+            Thread.sleep(Long.MAX_VALUE);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayNanos = Math.max(0, Math.round(current.latency().sample(random) * 1_000_000));
+        Thread.sleep(Duration.ofNanos(delayNanos));
+
+        double latencyMs = delayNanos / 1_000_000.0;
+        if (current.mode() == Mode.FAIL || random.nextDouble() < current.failureRate()) {
+            return Health.down()
+                    .withDetail("error", "Connection refused (simulated " + name + " failure)")
+                    .withDetail("latency_ms", latencyMs)
+                    .build();
+        }
+        Health health = Health.up().withDetail("latency_ms", latencyMs).build();
+        this.lastGood = new LastGood(health, Instant.now());
+        return health;
+    }
+
+    // The last successful check marked stale, or null if there has not been one yet
+    public Health lastKnownGood() {
+        LastGood last = lastGood;
+        if (last == null) {
+            return null;
+        }
+        return Health.status(last.health().getStatus())
+                .withDetails(last.health().getDetails())
+                .withDetail("stale", true)
+                .withDetail("last_success_at", last.at().toString())
+                .withDetail("timed_out_after", timeout.toString())
+                .build();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    public String latency() {
+        return behaviour.latencySpec();
+    }
+
+    public double failureRate() {
+        return behaviour.failureRate();
+    }
+
+    public Mode mode() {
+        return behaviour.mode();
+    }
+
+    public Instant lastSuccessAt() {
+        LastGood last = lastGood;
+        return last != null ? last.at() : null;
+    }
+}
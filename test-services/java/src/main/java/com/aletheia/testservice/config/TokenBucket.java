@@ -0,0 +1,83 @@
+package com.aletheia.testservice.config;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free token bucket in its GCRA form: instead of a token count plus a refill timestamp,
+// a single "theoretical arrival time" is advanced by one emission interval per admitted
+// request, so acquiring is one CAS on one AtomicLong.
+public final class TokenBucket {
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate must be > 0 and burst >= 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    // "<permits>/<s|m|h>[:<burst>]", e.g. "100/s", "600/m:20". Burst defaults to one second of permits.
+    public static TokenBucket parse(String spec) {
+        String trimmed = spec.trim();
+        int slash = trimmed.indexOf('/');
+        if (slash <= 0) {
+            throw new IllegalArgumentException("Invalid rate spec '" + spec + "', expected <permits>/<s|m|h>[:<burst>]");
+        }
+        int colon = trimmed.indexOf(':', slash);
+        String unit = (colon < 0 ? trimmed.substring(slash + 1) : trimmed.substring(slash + 1, colon))
+                .trim().toLowerCase(Locale.ROOT);
+        try {
+            double permits = Double.parseDouble(trimmed.substring(0, slash).trim());
+            double perSecond = switch (unit) {
+                case "s" -> permits;
+                case "m" -> permits / 60;
+                case "h" -> permits / 3600;
+                default -> throw new IllegalArgumentException("Unknown rate unit '" + unit + "' in '" + spec + "'");
+            };
+            int burst = colon < 0
+                    ? (int) Math.max(1, Math.ceil(perSecond))
+                    : Integer.parseInt(trimmed.substring(colon + 1).trim());
+            return new TokenBucket(perSecond, burst);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in rate spec '" + spec + "'");
+        }
+    }
+
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = (arrival - now > 0 ? arrival : now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    // Time until the next permit frees up, for Retry-After
+    public long nanosUntilAvailable() {
+        long wait = theoreticalArrival.get() + intervalNanos - burstNanos - System.nanoTime();
+        return Math.max(0, wait);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,120 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.downstream.DownstreamClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+// Outbound counterpart of ms-call's /api/v1/call: forwards to CALL_TARGET_URL (by default a
+// local ms-called) and reports what the client saw, including how many attempts it took.
+@RestController
+@RequestMapping("/api/v1")
+public class CallController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallController.class);
+    private final DownstreamClient client;
+    private final ObjectMapper objectMapper;
+
+    public CallController(DownstreamClient client, ObjectMapper objectMapper) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/call")
+    public ResponseEntity<Map<String, Object>> call(
+            @RequestParam(value = "attempts", defaultValue = "0") int attempts) {
+        return forward(null, attempts);
+    }
+
+    @PostMapping("/call")
+    public ResponseEntity<Map<String, Object>> call(
+            @RequestBody(required = false) String body,
+            @RequestParam(value = "attempts", defaultValue = "0") int attempts) {
+        return forward(body, attempts);
+    }
+
+    private ResponseEntity<Map<String, Object>> forward(String body, int attempts) {
+        if (attempts < 0) {
+            throw new IllegalArgumentException("attempts must be >= 0, got " + attempts);
+        }
+        String requestId = MDC.get("request_id");
+        DownstreamClient.Result result = client.call(body, requestId, attempts);
+        logger.info("Downstream call to {} finished: outcome={} status={} attempts={} in {}ms (request_id={})",
+                client.getTarget(), result.outcome(), result.status(), result.attempts(),
+                result.duration().toMillis(), requestId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("target", client.getTarget().toString());
+        response.put("attempts", result.attempts());
+        response.put("duration_ms", result.duration().toNanos() / 1_000_000.0);
+        if (result.status() > 0) {
+            response.put("downstream_status", result.status());
+            response.put("downstream_body", parse(result.body()));
+        }
+        response.put("timestamp", Instant.now().toString());
+        response.put("request_id", requestId);
+
+        HttpStatus status = switch (result.outcome()) {
+            case SUCCESS -> {
+                response.put("status", "success");
+                response.put("message", "Successfully called downstream service");
+                yield HttpStatus.OK;
+            }
+            case HTTP_ERROR -> {
+                response.put("status", "error");
+                response.put("message", "Downstream service returned error status");
+                yield HttpStatus.BAD_GATEWAY;
+            }
+            case ERROR -> {
+                response.put("status", "error");
+                response.put("message", "Failed to call downstream service");
+                response.put("error", result.error());
+                yield HttpStatus.BAD_GATEWAY;
+            }
+            case POOL_EXHAUSTED -> {
+                response.put("status", "error");
+                response.put("message", "Downstream connection pool exhausted");
+                response.put("error", result.error());
+                yield HttpStatus.SERVICE_UNAVAILABLE;
+            }
+        };
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping("/call/pool")
+    public ResponseEntity<Map<String, Object>> pool() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("target", client.getTarget().toString());
+        result.put("max", client.getMaxConnections());
+        result.put("active", client.getActive());
+        result.put("pending", client.getPending());
+        result.put("max_attempts", client.getMaxAttempts());
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+
+    private Object parse(String body) {
+        if (body == null || body.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, Object.class);
+        } catch (JsonProcessingException e) {
+            return Map.of("raw", body);
+        }
+    }
+}
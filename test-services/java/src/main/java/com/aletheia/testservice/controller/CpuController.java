@@ -0,0 +1,49 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.CpuBurner;
+import com.aletheia.testservice.fault.CpuWorkload;
+import org.slf4j.MDC;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1")
+public class CpuController {
+
+    private final CpuBurner cpuBurner;
+
+    public CpuController(CpuBurner cpuBurner) {
+        this.cpuBurner = cpuBurner;
+    }
+
+    @GetMapping("/cpu")
+    public ResponseEntity<Map<String, Object>> burnCpu(
+            @RequestParam(value = "duration", defaultValue = "30s") String duration,
+            @RequestParam(value = "utilization", defaultValue = "100") int utilization,
+            @RequestParam(value = "cores", defaultValue = "1") int cores,
+            @RequestParam(value = "workload", defaultValue = "loop") String workload) {
+
+        CpuBurner.Burn burn = cpuBurner.start(
+                DurationStyle.detectAndParse(duration), utilization, cores, CpuWorkload.fromName(workload));
+
+        // The burn runs in the background; the request returns as soon as it is scheduled
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", "CPU burn started");
+        result.put("burn_id", burn.id());
+        result.put("duration", burn.duration().toString());
+        result.put("utilization", burn.utilization());
+        result.put("cores", burn.cores());
+        result.put("available_cores", cpuBurner.getParallelism());
+        result.put("workload", burn.workload().tag());
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+}
@@ -0,0 +1,59 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.data.EmbeddedDatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1")
+public class DataController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataController.class);
+    private final EmbeddedDatabase database;
+
+    public DataController(EmbeddedDatabase database) {
+        this.database = database;
+    }
+
+    // limit is the number of customers for n_plus_one and rows for streamed/materialized;
+    // indexed and full_scan reject it
+    @GetMapping("/data")
+    public ResponseEntity<Map<String, Object>> query(
+            @RequestParam(value = "mode", defaultValue = "indexed") String modeName,
+            @RequestParam(value = "limit", required = false) Integer limit) throws SQLException {
+
+        EmbeddedDatabase.Mode mode = EmbeddedDatabase.Mode.parse(modeName);
+        int effectiveLimit = database.limitFor(mode, limit);
+        String requestId = MDC.get("request_id");
+
+        long start = System.nanoTime();
+        EmbeddedDatabase.Result result = database.run(mode, effectiveLimit);
+        double durationMs = (System.nanoTime() - start) / 1_000_000.0;
+        logger.info("Data query mode={} returned {} rows with {} statements in {}ms (request_id={})",
+                mode.tag(), result.rows(), result.statements(), durationMs, requestId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("mode", mode.tag());
+        if (mode.takesLimit()) {
+            response.put("limit", effectiveLimit);
+        }
+        response.put("rows", result.rows());
+        response.put("statements", result.statements());
+        response.put("total_amount", result.totalAmount());
+        response.put("duration_ms", durationMs);
+        response.put("timestamp", Instant.now().toString());
+        response.put("request_id", requestId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,96 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.Distribution;
+import com.aletheia.testservice.fault.LatencyInjector;
+import com.aletheia.testservice.fault.SimulatedConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Holds a pooled connection for the whole request, the way a transactional handler does, so
+// under load the pool runs dry, borrowers queue and the slowest time out with a 503.
+@RestController
+@RequestMapping("/api/v1")
+public class DatabaseController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseController.class);
+    private static final int MAX_QUERIES = 100;
+
+    private final SimulatedConnectionPool pool;
+    private final LatencyInjector latencyInjector;
+    private final String defaultLatency;
+
+    public DatabaseController(SimulatedConnectionPool pool, LatencyInjector latencyInjector,
+                              @Value("${aletheia.db.query-latency:lognormal:20,0.5}") String defaultLatency) {
+        this.pool = pool;
+        this.latencyInjector = latencyInjector;
+        this.defaultLatency = defaultLatency;
+        Distribution.parse(defaultLatency);
+    }
+
+    @GetMapping("/db")
+    public ResponseEntity<Map<String, Object>> query(
+            @RequestParam(value = "latency", required = false) String spec,
+            @RequestParam(value = "queries", defaultValue = "1") int queries) throws SQLException {
+
+        if (queries < 1 || queries > MAX_QUERIES) {
+            throw new IllegalArgumentException("queries must be between 1 and " + MAX_QUERIES + ", got " + queries);
+        }
+        String latency = spec != null ? spec : defaultLatency;
+        Distribution distribution = Distribution.parse(latency);
+        String requestId = MDC.get("request_id");
+
+        Duration acquireTime;
+        Duration queryTime = Duration.ZERO;
+        try (SimulatedConnectionPool.Connection connection = pool.borrow()) {
+            acquireTime = connection.getAcquireTime();
+            for (int i = 0; i < queries; i++) {
+                queryTime = queryTime.plus(latencyInjector.delay(distribution, LatencyInjector.Source.DB_QUERY));
+            }
+        }
+        logger.debug("Ran {} simulated queries in {}ms after waiting {}ms for a connection (request_id={})",
+                queries, queryTime.toMillis(), acquireTime.toMillis(), requestId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("queries", queries);
+        result.put("latency", latency);
+        result.put("acquire_ms", acquireTime.toNanos() / 1_000_000.0);
+        result.put("query_ms", queryTime.toNanos() / 1_000_000.0);
+        result.put("pool", poolState());
+        result.put("timestamp", Instant.now().toString());
+        result.put("request_id", requestId);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/db/pool")
+    public ResponseEntity<Map<String, Object>> poolStatus() {
+        Map<String, Object> result = new HashMap<>(poolState());
+        result.put("connection_timeout", pool.getConnectionTimeout().toString());
+        result.put("query_latency", defaultLatency);
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+
+    private Map<String, Object> poolState() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("name", pool.getPoolName());
+        state.put("max", pool.getMaxSize());
+        state.put("active", pool.getActive());
+        state.put("idle", pool.getIdle());
+        state.put("pending", pool.getPending());
+        return state;
+    }
+}
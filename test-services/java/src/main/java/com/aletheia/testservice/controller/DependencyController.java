@@ -0,0 +1,87 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.config.DependenciesHealthContributor;
+import com.aletheia.testservice.config.SimulatedDependency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Changes how the simulated health dependencies behave while the service runs; the set of
+// dependencies itself is fixed by HEALTH_DEPENDENCIES at startup.
+@RestController
+@RequestMapping("/api/v1/dependencies")
+public class DependencyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DependencyController.class);
+    private final DependenciesHealthContributor contributor;
+
+    public DependencyController(DependenciesHealthContributor contributor) {
+        this.contributor = contributor;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> list() {
+        List<Map<String, Object>> dependencies = new ArrayList<>();
+        for (SimulatedDependency dependency : contributor.dependencies()) {
+            dependencies.add(describe(dependency));
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("dependencies", dependencies);
+        result.put("evaluation", contributor.isParallel() ? "parallel" : "sequential");
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+
+    // Parameters that are left out keep their current value
+    @GetMapping("/{name}")
+    public ResponseEntity<Map<String, Object>> update(
+            @PathVariable String name,
+            @RequestParam(value = "mode", required = false) String mode,
+            @RequestParam(value = "latency", required = false) String latency,
+            @RequestParam(value = "failure_rate", required = false) String failureRate) {
+
+        SimulatedDependency dependency = contributor.find(name);
+        if (dependency == null) {
+            throw new IllegalArgumentException("Unknown dependency '" + name + "', configured: "
+                    + contributor.dependencies().stream().map(SimulatedDependency::name).toList());
+        }
+        if (mode != null || latency != null || failureRate != null) {
+            dependency.update(latency,
+                    failureRate != null ? SimulatedDependency.parseRate(failureRate) : null,
+                    mode != null ? SimulatedDependency.Mode.parse(mode) : null);
+            logger.info("Dependency {} now mode={} latency={} failure_rate={}",
+                    name, dependency.mode(), dependency.latency(), dependency.failureRate());
+        }
+
+        Map<String, Object> result = new HashMap<>(describe(dependency));
+        result.put("timestamp", Instant.now().toString());
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+
+    private static Map<String, Object> describe(SimulatedDependency dependency) {
+        Map<String, Object> d = new LinkedHashMap<>();
+        d.put("name", dependency.name());
+        d.put("mode", dependency.mode().name().toLowerCase(Locale.ROOT));
+        d.put("latency", dependency.latency());
+        d.put("failure_rate", dependency.failureRate());
+        d.put("timeout", dependency.timeout().toString());
+        Instant lastSuccess = dependency.lastSuccessAt();
+        d.put("last_success_at", lastSuccess != null ? lastSuccess.toString() : null);
+        return d;
+    }
+}
@@ -1,19 +1,26 @@
 package com.aletheia.testservice.controller;
 
 import com.aletheia.testservice.exception.*;
+import com.aletheia.testservice.fault.Distribution;
+import com.aletheia.testservice.fault.ErrorFault;
+import com.aletheia.testservice.fault.ErrorFaultRegistry;
+import com.aletheia.testservice.fault.FaultInjectorRegistry;
+import com.aletheia.testservice.fault.LatencyInjector;
+import com.aletheia.testservice.metrics.ErrorMetrics;
 import com.aletheia.testservice.model.ErrorResponse;
+import com.aletheia.testservice.model.ErrorType;
 import com.aletheia.testservice.model.ServiceInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.sql.SQLException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
@@ -23,22 +30,26 @@ import java.util.*;
 public class ErrorController {
 
     private static final Logger logger = LoggerFactory.getLogger(ErrorController.class);
-    private final ObjectMapper objectMapper;
-    private final Counter errorCountTotal;
-    private final Counter exceptionThrownTotal;
+    private static final byte[] TIMESTAMP_FIELD = "\",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REQUEST_ID_FIELD = "\",\"request_id\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL_REQUEST_ID_FIELD = "\",\"request_id\":null}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END_STRING_OBJECT = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final LatencyInjector latencyInjector;
+    private final ErrorMetrics errorMetrics;
+    private final ErrorFaultRegistry faultRegistry;
+    private final FaultInjectorRegistry faultInjectors;
+    private final byte[] unknownTypePrefix;
     private final Instant startTime;
 
-    public ErrorController(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public ErrorController(LatencyInjector latencyInjector, ErrorMetrics errorMetrics, ErrorFaultRegistry faultRegistry,
+                           FaultInjectorRegistry faultInjectors) {
+        this.latencyInjector = latencyInjector;
+        this.errorMetrics = errorMetrics;
+        this.faultRegistry = faultRegistry;
+        this.faultInjectors = faultInjectors;
+        this.unknownTypePrefix = unknownTypePrefix(faultRegistry.availableTypes());
         this.startTime = Instant.now();
-        this.errorCountTotal = Counter.builder("error_count_total")
-                .description("Total number of errors by type")
-                .tag("service", "java-test-service")
-                .register(meterRegistry);
-        this.exceptionThrownTotal = Counter.builder("exception_thrown_total")
-                .description("Total number of thrown exceptions by class")
-                .tag("service", "java-test-service")
-                .register(meterRegistry);
     }
 
     @GetMapping("/")
@@ -48,123 +59,118 @@ public class ErrorController {
                 "1.0.0",
                 Duration.between(startTime, Instant.now()).toString(),
                 true,
+                Thread.currentThread().isVirtual() ? "virtual" : "platform",
                 Arrays.asList(
                         "GET /api/v1/",
-                        "GET /api/v1/error?type={npe|array_index|divide_by_zero|json_error|sql_error|oom}",
+                        "GET /api/v1/error?type={npe|array_index|divide_by_zero|json_error|sql_error|oom}&latency={spec}",
+                        "GET /api/v1/latency?dist={fixed|uniform|normal|lognormal|pareto|bimodal}:{args}",
+                        "GET /api/v1/cpu?duration={30s}&utilization={1-100}&cores={n}&workload={loop|hash|regex|bigint}",
+                        "GET /api/v1/gc-pressure/{start|stop|status}?rate={MB/s}&size={spec}&survivor_ratio={0-1}&max_retained={128MB}",
+                        "GET /api/v1/leak/{start|stop|status}?rate={1MB}&structure={map|linked_list|thread_local}&off_heap={bool}&ceiling={256MB}",
+                        "GET /api/v1/contention/{start|stop|status}?threads={n}&locks={n}&type={synchronized|reentrant|stamped}&hold={5ms}&fair={bool}",
+                        "GET /api/v1/saturation/{start|stop|status}?fraction={0.9}&duration={30s}",
+                        "GET /api/v1/faults/{name}?{injector parameters}",
+                        "GET /api/v1/scenario/{start|stop|status}",
+                        "POST /api/v1/scenario/start (YAML timeline)",
+                        "GET /api/v1/db?latency={spec}&queries={n}",
+                        "GET /api/v1/db/pool",
+                        "GET /api/v1/data?mode={indexed|full_scan|n_plus_one|streamed|materialized}&limit={n}",
+                        "GET|POST /api/v1/call?attempts={n}",
+                        "GET /api/v1/call/pool",
+                        "GET /api/v1/dependencies",
+                        "GET /api/v1/dependencies/{name}?mode={normal|fail|hang}&latency={spec}&failure_rate={0-1}",
                         "GET /actuator/health",
                         "GET /actuator/health/liveness",
                         "GET /actuator/health/readiness",
-                        "GET /actuator/prometheus"
+                        "GET /actuator/prometheus",
+                        "GET|POST /actuator/faults/{name}",
+                        "GET|POST /actuator/chaos"
                 )
         );
         return ResponseEntity.ok(info);
     }
 
     @GetMapping("/error")
-    public ResponseEntity<Map<String, Object>> triggerError(
-            @RequestParam(value = "type", defaultValue = "npe") String errorType) {
+    public ResponseEntity<?> triggerError(
+            @RequestParam(value = "type", defaultValue = "npe") String errorType,
+            @RequestParam(value = "latency", required = false) String latencySpec) {
 
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         logger.warn("Triggering intentional error: {} (request_id={})", errorType, requestId);
 
-        // Increment metrics
-        errorCountTotal.increment();
-        
+        // Optional delay before the fault, drawn from the requested distribution
+        if (latencySpec != null) {
+            latencyInjector.delay(Distribution.parse(latencySpec), LatencyInjector.Source.ERROR_ENDPOINT);
+        }
+
+        ErrorFault fault = faultRegistry.find(errorType);
+        if (fault == null) {
+            errorMetrics.countUnknownType();
+            return unknownTypeResponse(errorType, requestId);
+        }
+
+        // Error faults can be switched off through /actuator/faults like any other injector
+        if (!faultInjectors.find(fault.name()).admit()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "error", "Fault injector '" + fault.name() + "' is disabled",
+                    "error_type", "fault_disabled",
+                    "timestamp", Instant.now().toString(),
+                    "request_id", requestId
+            ));
+        }
+
+        ErrorType type = fault.type();
+        errorMetrics.countError(type);
         try {
-            switch (errorType.toLowerCase()) {
-                case "npe":
-                case "null_pointer":
-                    throwNullPointerException();
-                    break;
-                case "array_index":
-                case "index_out_of_bounds":
-                    throwArrayIndexOutOfBoundsException();
-                    break;
-                case "divide_by_zero":
-                case "arithmetic":
-                    throwArithmeticException();
-                    break;
-                case "json_error":
-                case "json_processing":
-                    throwJsonProcessingException();
-                    break;
-                case "sql_error":
-                case "sql":
-                    throwSQLException();
-                    break;
-                case "oom":
-                case "out_of_memory":
-                    throwOutOfMemoryError();
-                    break;
-                default:
-                    return ResponseEntity.badRequest().body(Map.of(
-                            "error", "Unknown error type: " + errorType,
-                            "error_type", "invalid_request",
-                            "timestamp", Instant.now().toString(),
-                            "request_id", requestId,
-                            "available_types", Arrays.asList("npe", "array_index", "divide_by_zero", "json_error", "sql_error", "oom")
-                    ));
-            }
+            fault.trigger();
+        } catch (OutOfMemoryError e) {
+            errorMetrics.countExceptionThrown(type);
+            throw e;
         } catch (Exception e) {
-            exceptionThrownTotal.increment();
+            errorMetrics.countExceptionThrown(type);
             // Re-throw to let global exception handler handle it
             throw new RuntimeException(e);
+        } finally {
+            errorMetrics.recordRequest(type, start);
         }
 
         // Should never reach here
         return ResponseEntity.ok().build();
     }
 
-    private void throwNullPointerException() {
-        logger.error("About to trigger NullPointerException");
-        String str = null;
-        str.length(); // This will throw NullPointerException
-    }
-
-    private void throwArrayIndexOutOfBoundsException() {
-        logger.error("About to trigger ArrayIndexOutOfBoundsException");
-        int[] array = {1, 2, 3};
-        int value = array[10]; // This will throw ArrayIndexOutOfBoundsException
-    }
-
-    private void throwArithmeticException() {
-        logger.error("About to trigger ArithmeticException");
-        int x = 42;
-        int y = 0;
-        int result = x / y; // This will throw ArithmeticException
-    }
-
-    private void throwJsonProcessingException() throws Exception {
-        logger.error("About to trigger JsonProcessingException");
-        String invalidJson = "{\"broken\": json}";
-        objectMapper.readValue(invalidJson, Map.class); // This will throw JsonProcessingException
-    }
-
-    private void throwSQLException() throws SQLException {
-        logger.error("About to trigger SQLException");
-        // Simulate database connection timeout
-        try {
-            Thread.sleep(100); // Simulate delay
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    // Only the echoed type, timestamp and request id vary, so the rest of the 400 body
+    // is encoded once and the per-request fields are escaped straight into bytes
+    private static byte[] unknownTypePrefix(List<String> availableTypes) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        StringBuilder json = new StringBuilder("{\"error_type\":\"invalid_request\",\"available_types\":[");
+        for (int i = 0; i < availableTypes.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(encoder.quoteAsString(availableTypes.get(i))).append('"');
         }
-        throw new SQLException("Connection timeout after 30s", "08001", 0);
+        json.append("],\"error\":\"Unknown error type: ");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
     }
 
-    private void throwOutOfMemoryError() {
-        logger.error("About to trigger OutOfMemoryError (simulated)");
-        // Simulate OOM by allocating large array
-        // NOTE: This may actually cause OOM in small containers
-        List<byte[]> memoryHog = new ArrayList<>();
-        try {
-            while (true) {
-                memoryHog.add(new byte[1024 * 1024 * 10]); // 10MB chunks
-            }
-        } catch (OutOfMemoryError e) {
-            logger.error("OutOfMemoryError triggered", e);
-            throw e;
+    private ResponseEntity<byte[]> unknownTypeResponse(String errorType, String requestId) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(unknownTypePrefix.length + 128);
+        body.writeBytes(unknownTypePrefix);
+        body.writeBytes(encoder.quoteAsUTF8(errorType));
+        body.writeBytes(TIMESTAMP_FIELD);
+        body.writeBytes(Instant.now().toString().getBytes(StandardCharsets.US_ASCII));
+        if (requestId != null) {
+            body.writeBytes(REQUEST_ID_FIELD);
+            body.writeBytes(encoder.quoteAsUTF8(requestId));
+            body.writeBytes(END_STRING_OBJECT);
+        } else {
+            body.writeBytes(NULL_REQUEST_ID_FIELD);
         }
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(body.toByteArray());
     }
+
     @GetMapping("/deadlock")
     public ResponseEntity<Map<String, Object>> triggerDeadlock() throws InterruptedException {
         final Object lock1 = new Object();
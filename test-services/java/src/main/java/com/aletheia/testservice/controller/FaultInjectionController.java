@@ -0,0 +1,104 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.FaultInjector;
+import com.aletheia.testservice.fault.FaultInjectorRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1")
+public class FaultInjectionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjectionController.class);
+    private final FaultInjectorRegistry registry;
+
+    public FaultInjectionController(FaultInjectorRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Query parameters are passed through to the injector; see /actuator/faults for what each accepts
+    @GetMapping("/faults/{name}")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> inject(@PathVariable String name,
+                                                                         HttpServletRequest request) throws Exception {
+        FaultInjectorRegistry.Entry entry = registry.find(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown fault injector '" + name + "'");
+        }
+        String requestId = MDC.get("request_id");
+        if (!entry.admit()) {
+            return CompletableFuture.completedFuture(disabled(name, requestId));
+        }
+
+        FaultInjector injector = entry.injector();
+        FaultInjector.Parameters parameters = entry.parameters(request::getParameter);
+        injector.validate(parameters);
+        logger.warn("Injecting fault: {} ({}) (request_id={})", name, injector.strategy(), requestId);
+        switch (injector.strategy()) {
+            case SYNC -> {
+                try {
+                    injector.inject(parameters);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Exception e) {
+                    // Re-throw to let global exception handler handle it
+                    throw new RuntimeException(e);
+                }
+                return CompletableFuture.completedFuture(result(name, "sync", "completed", HttpStatus.OK, requestId));
+            }
+            case ASYNC -> {
+                return registry.submit(entry, snapshot(injector, parameters), requestId)
+                        .thenApply(ignored -> result(name, "async", "completed", HttpStatus.OK, requestId));
+            }
+            default -> {
+                registry.submit(entry, snapshot(injector, parameters), requestId);
+                return CompletableFuture.completedFuture(result(name, "background", "started", HttpStatus.ACCEPTED, requestId));
+            }
+        }
+    }
+
+    // Copies the declared parameters off the request before handing them to another thread
+    private static FaultInjector.Parameters snapshot(FaultInjector injector, FaultInjector.Parameters parameters) {
+        Map<String, String> values = new HashMap<>();
+        for (FaultInjector.Parameter parameter : injector.parameters()) {
+            String value = parameters.get(parameter.name());
+            if (value != null) {
+                values.put(parameter.name(), value);
+            }
+        }
+        return values::get;
+    }
+
+    private static ResponseEntity<Map<String, Object>> result(String name, String strategy, String status,
+                                                              HttpStatus httpStatus, String requestId) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("fault", name);
+        result.put("strategy", strategy);
+        result.put("status", status);
+        result.put("timestamp", Instant.now().toString());
+        result.put("request_id", requestId);
+        return ResponseEntity.status(httpStatus).body(result);
+    }
+
+    private static ResponseEntity<Map<String, Object>> disabled(String name, String requestId) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("error", "Fault injector '" + name + "' is disabled");
+        result.put("error_type", "fault_disabled");
+        result.put("fault", name);
+        result.put("timestamp", Instant.now().toString());
+        result.put("request_id", requestId);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+    }
+}
@@ -0,0 +1,67 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.Distribution;
+import com.aletheia.testservice.fault.GcPressureGenerator;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/gc-pressure")
+public class GcPressureController {
+
+    private final GcPressureGenerator generator;
+
+    public GcPressureController(GcPressureGenerator generator) {
+        this.generator = generator;
+    }
+
+    @GetMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(
+            @RequestParam(value = "rate", defaultValue = "50") double rateMbPerSecond,
+            @RequestParam(value = "size", defaultValue = "lognormal:4096,1.0") String objectSize,
+            @RequestParam(value = "survivor_ratio", defaultValue = "0.05") double survivorRatio,
+            @RequestParam(value = "max_retained", defaultValue = "128MB") String maxRetained) {
+
+        generator.start(new GcPressureGenerator.Settings(
+                rateMbPerSecond, Distribution.parse(objectSize), survivorRatio, DataSize.parse(maxRetained)));
+        return status();
+    }
+
+    @GetMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop() {
+        generator.stop();
+        return status();
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("running", generator.isRunning());
+        GcPressureGenerator.Settings settings = generator.getSettings();
+        if (settings != null) {
+            result.put("rate_mb_per_second", settings.rateMbPerSecond());
+            result.put("object_size", settings.objectSize().toString());
+            result.put("survivor_ratio", settings.survivorRatio());
+            result.put("max_retained_bytes", settings.maxRetained().toBytes());
+            result.put("started_at", generator.getStartedAt().toString());
+            if (generator.isRunning()) {
+                result.put("elapsed", Duration.between(generator.getStartedAt(), Instant.now()).toString());
+            }
+        }
+        result.put("allocated_bytes", generator.getAllocatedBytes());
+        result.put("retained_bytes", generator.getRetainedBytes());
+        result.put("retained_objects", generator.getRetainedObjects());
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,50 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.Distribution;
+import com.aletheia.testservice.fault.LatencyInjector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1")
+public class LatencyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyController.class);
+    private final LatencyInjector latencyInjector;
+
+    public LatencyController(LatencyInjector latencyInjector) {
+        this.latencyInjector = latencyInjector;
+    }
+
+    @GetMapping("/latency")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> injectLatency(
+            @RequestParam(value = "dist", defaultValue = "fixed:100") String spec) {
+
+        Distribution distribution = Distribution.parse(spec);
+        String requestId = MDC.get("request_id");
+        logger.info("Injecting latency: {} (request_id={})", spec, requestId);
+
+        // The request thread is released while the delay runs (async servlet)
+        return latencyInjector.delayAsync(distribution, LatencyInjector.Source.LATENCY_ENDPOINT)
+                .thenApply(delay -> {
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("distribution", distribution.kind());
+                    result.put("spec", spec);
+                    result.put("injected_ms", delay.toNanos() / 1_000_000.0);
+                    result.put("timestamp", Instant.now().toString());
+                    result.put("request_id", requestId);
+                    return ResponseEntity.ok(result);
+                });
+    }
+}
@@ -0,0 +1,81 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.LockContentionSimulator;
+import org.slf4j.MDC;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/contention")
+public class LockContentionController {
+
+    private final LockContentionSimulator simulator;
+
+    public LockContentionController(LockContentionSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @GetMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(
+            @RequestParam(value = "threads", defaultValue = "8") int threads,
+            @RequestParam(value = "locks", defaultValue = "1") int locks,
+            @RequestParam(value = "type", defaultValue = "synchronized") String type,
+            @RequestParam(value = "hold", defaultValue = "5ms") String hold,
+            @RequestParam(value = "think", defaultValue = "1ms") String think,
+            @RequestParam(value = "fair", defaultValue = "false") boolean fair,
+            @RequestParam(value = "duration", defaultValue = "60s") String duration) {
+
+        simulator.start(new LockContentionSimulator.Settings(
+                threads,
+                locks,
+                LockContentionSimulator.LockType.fromName(type),
+                DurationStyle.detectAndParse(hold),
+                DurationStyle.detectAndParse(think),
+                fair,
+                DurationStyle.detectAndParse(duration)));
+        return status();
+    }
+
+    @GetMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop() {
+        simulator.stop();
+        return status();
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("running", simulator.isRunning());
+        LockContentionSimulator.Settings settings = simulator.getSettings();
+        if (settings != null) {
+            Duration elapsed = Duration.between(simulator.getStartedAt(), Instant.now());
+            if (elapsed.compareTo(settings.duration()) > 0) {
+                elapsed = settings.duration();
+            }
+            result.put("threads", settings.threads());
+            result.put("locks", settings.locks());
+            result.put("type", settings.type().tag());
+            result.put("hold", settings.hold().toString());
+            result.put("think", settings.think().toString());
+            result.put("fair", settings.fair());
+            result.put("duration", settings.duration().toString());
+            result.put("elapsed", elapsed.toString());
+            result.put("acquisitions", simulator.getAcquisitions());
+            result.put("acquisitions_per_second",
+                    elapsed.isZero() ? 0 : simulator.getAcquisitions() * 1000.0 / elapsed.toMillis());
+            result.put("average_wait_ms", simulator.getAverageWait().toNanos() / 1_000_000.0);
+        }
+        result.put("waiting_threads", simulator.getWaitingThreads());
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+}
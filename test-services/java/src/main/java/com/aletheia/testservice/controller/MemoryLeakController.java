@@ -0,0 +1,70 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.MemoryLeakSimulator;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/leak")
+public class MemoryLeakController {
+
+    private final MemoryLeakSimulator simulator;
+
+    public MemoryLeakController(MemoryLeakSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @GetMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(
+            @RequestParam(value = "rate", defaultValue = "1MB") String growthPerSecond,
+            @RequestParam(value = "chunk_size", defaultValue = "1KB") String chunkSize,
+            @RequestParam(value = "structure", defaultValue = "map") String structure,
+            @RequestParam(value = "off_heap", defaultValue = "false") boolean offHeap,
+            @RequestParam(value = "ceiling", defaultValue = "256MB") String ceiling) {
+
+        simulator.start(new MemoryLeakSimulator.Settings(
+                DataSize.parse(growthPerSecond),
+                DataSize.parse(chunkSize),
+                MemoryLeakSimulator.Structure.fromName(structure),
+                offHeap,
+                DataSize.parse(ceiling)));
+        return status();
+    }
+
+    @GetMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop(
+            @RequestParam(value = "release", defaultValue = "false") boolean release) {
+        simulator.stop(release);
+        return status();
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("growing", simulator.isGrowing());
+        MemoryLeakSimulator.Settings settings = simulator.getSettings();
+        if (settings != null) {
+            result.put("rate_bytes_per_second", settings.growthPerSecond().toBytes());
+            result.put("chunk_size_bytes", settings.chunkSize().toBytes());
+            result.put("structure", settings.structure().tag());
+            result.put("off_heap", settings.offHeap());
+            result.put("ceiling_bytes", settings.ceiling().toBytes());
+            result.put("started_at", simulator.getStartedAt().toString());
+            result.put("elapsed", Duration.between(simulator.getStartedAt(), Instant.now()).toString());
+        }
+        result.put("heap_retained_bytes", simulator.getHeapBytes());
+        result.put("offheap_retained_bytes", simulator.getOffHeapBytes());
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+}
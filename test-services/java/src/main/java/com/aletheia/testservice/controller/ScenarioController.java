@@ -0,0 +1,105 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.scenario.Scenario;
+import com.aletheia.testservice.scenario.ScenarioEngine;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/scenario")
+public class ScenarioController {
+
+    private final ScenarioEngine engine;
+
+    public ScenarioController(ScenarioEngine engine) {
+        this.engine = engine;
+    }
+
+    // Restarts the timeline from SCENARIO_LOCATION
+    @GetMapping("/start")
+    public ResponseEntity<Map<String, Object>> start() {
+        Scenario configured = engine.getConfigured();
+        if (configured == null) {
+            throw new IllegalArgumentException("No scenario configured; set SCENARIO_LOCATION or POST a YAML timeline");
+        }
+        engine.start(configured);
+        return accepted(configured);
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(@RequestBody String yaml) {
+        Scenario scenario = Scenario.parse(yaml);
+        engine.start(scenario);
+        return accepted(scenario);
+    }
+
+    @GetMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop() {
+        engine.stop();
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", "stopping");
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.accepted().body(result);
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        Map<String, Object> result = new HashMap<>();
+        Scenario scenario = engine.getScenario();
+        int index = engine.getPhaseIndex();
+        Instant phaseStartedAt = engine.getPhaseStartedAt();
+        result.put("running", scenario != null);
+        if (scenario != null) {
+            result.put("scenario", scenario.name());
+            result.put("repeat", scenario.repeat());
+            result.put("iteration", engine.getIteration());
+            result.put("started_at", engine.getStartedAt().toString());
+            result.put("phases", phases(scenario));
+            if (index >= 0 && phaseStartedAt != null) {
+                Scenario.Phase phase = scenario.phases().get(index);
+                Duration elapsed = Duration.between(phaseStartedAt, Instant.now());
+                result.put("phase", phase.name());
+                result.put("phase_index", index);
+                result.put("phase_started_at", phaseStartedAt.toString());
+                result.put("phase_remaining", phase.duration().minus(elapsed).toString());
+            }
+        }
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+
+    private static ResponseEntity<Map<String, Object>> accepted(Scenario scenario) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", "starting");
+        result.put("scenario", scenario.name());
+        result.put("repeat", scenario.repeat());
+        result.put("total_duration", scenario.totalDuration().toString());
+        result.put("phases", phases(scenario));
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.accepted().body(result);
+    }
+
+    private static List<Map<String, Object>> phases(Scenario scenario) {
+        List<Map<String, Object>> phases = new ArrayList<>();
+        for (Scenario.Phase phase : scenario.phases()) {
+            Map<String, Object> p = new LinkedHashMap<>();
+            p.put("name", phase.name());
+            p.put("duration", phase.duration().toString());
+            phases.add(p);
+        }
+        return phases;
+    }
+}
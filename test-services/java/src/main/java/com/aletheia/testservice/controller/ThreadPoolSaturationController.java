@@ -0,0 +1,66 @@
+package com.aletheia.testservice.controller;
+
+import com.aletheia.testservice.fault.ThreadPoolSaturator;
+import org.slf4j.MDC;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/saturation")
+public class ThreadPoolSaturationController {
+
+    private final ThreadPoolSaturator saturator;
+
+    public ThreadPoolSaturationController(ThreadPoolSaturator saturator) {
+        this.saturator = saturator;
+    }
+
+    @GetMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(
+            @RequestParam(value = "fraction", defaultValue = "0.9") double fraction,
+            @RequestParam(value = "duration", defaultValue = "30s") String duration) {
+
+        if (!saturator.isAvailable()) {
+            Map<String, Object> result = new HashMap<>();
+            result.put("error", "Tomcat worker pool not available; saturation requires platform request threads");
+            result.put("request_id", MDC.get("request_id"));
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+        }
+        saturator.start(new ThreadPoolSaturator.Settings(fraction, DurationStyle.detectAndParse(duration)));
+        return status();
+    }
+
+    @GetMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop() {
+        saturator.stop();
+        return status();
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("available", saturator.isAvailable());
+        result.put("saturating", saturator.isSaturating());
+        ThreadPoolSaturator.Settings settings = saturator.getSettings();
+        if (settings != null) {
+            result.put("fraction", settings.fraction());
+            result.put("duration", settings.duration().toString());
+            result.put("started_at", saturator.getStartedAt().toString());
+            result.put("requested_threads", saturator.getRequestedThreads());
+        }
+        result.put("held_threads", saturator.getHeldThreads());
+        result.put("active_threads", saturator.getActiveThreads());
+        result.put("queued_tasks", saturator.getQueuedTasks());
+        result.put("max_threads", saturator.getMaxThreads());
+        result.put("request_id", MDC.get("request_id"));
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,363 @@
+package com.aletheia.testservice.data;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// An in-memory H2 database seeded with customers and orders, queried over plain JDBC so every
+// statement is visible and timed. orders.customer_id is indexed and orders.reference is not,
+// which gives one cheap and one full-scan lookup against the same table. Lazy query execution
+// lets H2 stream rows to the ResultSet instead of building the whole result first, so the
+// streamed and materialized modes differ in what the application holds, not in what H2 does.
+@Component
+public class EmbeddedDatabase {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedDatabase.class);
+    private static final String URL = "jdbc:h2:mem:aletheia;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=1";
+    private static final List<String> REGIONS = List.of("eu", "us", "apac", "latam");
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    // What limit counts in each mode; NONE rejects a limit outright
+    private enum LimitUnit {
+        NONE, CUSTOMERS, ORDERS
+    }
+
+    public enum Mode {
+        INDEXED(LimitUnit.NONE, 0, "orders_by_customer"),
+        FULL_SCAN(LimitUnit.NONE, 0, "orders_by_reference"),
+        N_PLUS_ONE(LimitUnit.CUSTOMERS, 50, "customers_by_region", "orders_by_customer"),
+        STREAMED(LimitUnit.ORDERS, 50_000, "all_orders"),
+        MATERIALIZED(LimitUnit.ORDERS, 50_000, "all_orders");
+
+        private final LimitUnit limitUnit;
+        private final int defaultLimit;
+        private final List<String> queries;
+
+        Mode(LimitUnit limitUnit, int defaultLimit, String... queries) {
+            this.limitUnit = limitUnit;
+            this.defaultLimit = defaultLimit;
+            this.queries = List.of(queries);
+        }
+
+        public boolean takesLimit() {
+            return limitUnit != LimitUnit.NONE;
+        }
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Mode parse(String mode) {
+            try {
+                return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown query mode '" + mode
+                        + "', expected indexed, full_scan, n_plus_one, streamed or materialized");
+            }
+        }
+    }
+
+    public record Result(Mode mode, int rows, int statements, BigDecimal totalAmount) {
+    }
+
+    private record Order(long id, long customerId, String reference, String status, BigDecimal amount, Timestamp createdAt) {
+    }
+
+    @FunctionalInterface
+    private interface Query<T> {
+        T run() throws SQLException;
+    }
+
+    private final boolean enabled;
+    private final int customers;
+    private final int orders;
+    private final long slowQueryNanos;
+    private final JdbcConnectionPool pool;
+    private final Map<Mode, Map<String, Timer>> timers = new EnumMap<>(Mode.class);
+    private final Map<Mode, DistributionSummary> statements = new EnumMap<>(Mode.class);
+
+    public EmbeddedDatabase(MeterRegistry meterRegistry,
+                            @Value("${aletheia.h2.enabled:false}") boolean enabled,
+                            @Value("${aletheia.h2.customers:10000}") int customers,
+                            @Value("${aletheia.h2.orders-per-customer:10}") int ordersPerCustomer,
+                            @Value("${aletheia.h2.max-connections:10}") int maxConnections,
+                            @Value("${aletheia.h2.slow-query-threshold:100ms}") Duration slowQueryThreshold) throws SQLException {
+        this.enabled = enabled;
+        this.customers = customers;
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+        if (!enabled) {
+            this.orders = 0;
+            this.pool = null;
+            return;
+        }
+        if (customers < 1 || ordersPerCustomer < 1) {
+            throw new IllegalArgumentException("aletheia.h2.customers and orders-per-customer must be at least 1");
+        }
+        try {
+            this.orders = Math.multiplyExact(customers, ordersPerCustomer);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("aletheia.h2.customers * orders-per-customer must fit in an int");
+        }
+
+        for (Mode mode : Mode.values()) {
+            Map<String, Timer> byQuery = new HashMap<>();
+            for (String query : mode.queries) {
+                byQuery.put(query, Timer.builder("h2_query_duration")
+                        .description("Embedded H2 statement time including reading the result set")
+                        .tag("mode", mode.tag())
+                        .tag("query", query)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry));
+            }
+            timers.put(mode, byQuery);
+            statements.put(mode, DistributionSummary.builder("h2_statements_per_request")
+                    .description("JDBC statements issued by one /api/v1/data request")
+                    .tag("mode", mode.tag())
+                    .register(meterRegistry));
+        }
+
+        this.pool = JdbcConnectionPool.create(URL, "sa", "");
+        pool.setMaxConnections(maxConnections);
+        long start = System.nanoTime();
+        seed();
+        logger.info("Embedded H2 seeded with {} customers and {} orders in {}ms",
+                customers, orders, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE customers (id BIGINT PRIMARY KEY, name VARCHAR(64) NOT NULL, "
+                    + "region VARCHAR(16) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, "
+                    + "customer_id BIGINT NOT NULL, reference VARCHAR(32) NOT NULL, "
+                    + "status VARCHAR(16) NOT NULL, amount DECIMAL(10, 2) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("INSERT INTO customers SELECT X, 'customer-' || X, "
+                    + "CASE MOD(X, 4) WHEN 0 THEN 'eu' WHEN 1 THEN 'us' WHEN 2 THEN 'apac' ELSE 'latam' END, "
+                    + "DATEADD('MINUTE', -X, TIMESTAMP '2024-01-01 00:00:00') "
+                    + "FROM SYSTEM_RANGE(1, " + customers + ")");
+            statement.execute("INSERT INTO orders SELECT X, MOD(X - 1, " + customers + ") + 1, "
+                    + "'ORD-' || LPAD(CAST(X AS VARCHAR), 10, '0'), "
+                    + "CASE MOD(X, 5) WHEN 0 THEN 'cancelled' WHEN 1 THEN 'pending' ELSE 'shipped' END, "
+                    + "MOD(X * 7919, 100000) / 100.0, "
+                    + "DATEADD('SECOND', -X, TIMESTAMP '2024-06-01 00:00:00') "
+                    + "FROM SYSTEM_RANGE(1, " + orders + ")");
+            // Built after the bulk load, which is much faster than maintaining them row by row
+            statement.execute("CREATE INDEX orders_customer_id ON orders(customer_id)");
+            statement.execute("ALTER TABLE orders ADD CONSTRAINT orders_customer_fk FOREIGN KEY (customer_id) REFERENCES customers(id)");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getCustomers() {
+        return customers;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+
+    // Resolves the requested limit for a mode: its default when absent, range-checked against
+    // what it counts, and 0 for modes that take none
+    public int limitFor(Mode mode, Integer limit) {
+        requireEnabled();
+        if (mode.limitUnit == LimitUnit.NONE) {
+            if (limit != null) {
+                throw new IllegalArgumentException("limit does not apply to mode " + mode.tag());
+            }
+            return 0;
+        }
+        int effective = limit != null ? limit : Math.min(mode.defaultLimit, maxLimit(mode));
+        if (effective < 1 || effective > maxLimit(mode)) {
+            throw new IllegalArgumentException("limit for mode " + mode.tag() + " must be between 1 and "
+                    + maxLimit(mode) + " " + mode.limitUnit.name().toLowerCase(Locale.ROOT) + ", got " + effective);
+        }
+        return effective;
+    }
+
+    private int maxLimit(Mode mode) {
+        return mode.limitUnit == LimitUnit.CUSTOMERS ? customers : orders;
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new IllegalArgumentException("Embedded database is disabled; set H2_ENABLED=true");
+        }
+    }
+
+    // limit comes from limitFor(); it is ignored by modes that take none
+    public Result run(Mode mode, int limit) throws SQLException {
+        requireEnabled();
+        if (mode.takesLimit()) {
+            limitFor(mode, limit);
+        }
+        Result result;
+        try (Connection connection = pool.getConnection()) {
+            result = switch (mode) {
+                case INDEXED -> ordersByCustomer(connection, mode, randomCustomer());
+                case FULL_SCAN -> ordersByReference(connection, mode);
+                case N_PLUS_ONE -> nPlusOne(connection, mode, limit);
+                case STREAMED -> streamed(connection, mode, limit);
+                case MATERIALIZED -> materialized(connection, mode, limit);
+            };
+        }
+        statements.get(mode).record(result.statements());
+        return result;
+    }
+
+    private Result ordersByCustomer(Connection connection, Mode mode, long customerId) throws SQLException {
+        return timed(mode, "orders_by_customer", () -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, amount FROM orders WHERE customer_id = ?")) {
+                statement.setLong(1, customerId);
+                return sumAmounts(mode, statement);
+            }
+        });
+    }
+
+    // reference has no index, so H2 reads every order to find one
+    private Result ordersByReference(Connection connection, Mode mode) throws SQLException {
+        String reference = String.format("ORD-%010d", ThreadLocalRandom.current().nextLong(1, orders + 1));
+        return timed(mode, "orders_by_reference", () -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, amount FROM orders WHERE reference = ?")) {
+                statement.setString(1, reference);
+                return sumAmounts(mode, statement);
+            }
+        });
+    }
+
+    // One query for the customers, then one more per customer for their orders
+    private Result nPlusOne(Connection connection, Mode mode, int limit) throws SQLException {
+        String region = REGIONS.get(ThreadLocalRandom.current().nextInt(REGIONS.size()));
+        List<Long> ids = timed(mode, "customers_by_region", () -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id FROM customers WHERE region = ? ORDER BY id LIMIT ?")) {
+                statement.setString(1, region);
+                statement.setInt(2, limit);
+                List<Long> found = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        found.add(rs.getLong(1));
+                    }
+                }
+                return found;
+            }
+        });
+
+        int rows = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        for (long id : ids) {
+            Result orders = ordersByCustomer(connection, mode, id);
+            rows += orders.rows();
+            total = total.add(orders.totalAmount());
+        }
+        return new Result(mode, rows, 1 + ids.size(), total);
+    }
+
+    // Reads rows one fetch at a time and keeps only running totals
+    private Result streamed(Connection connection, Mode mode, int limit) throws SQLException {
+        return timed(mode, "all_orders", () -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, customer_id, reference, status, amount, created_at FROM orders ORDER BY id LIMIT ?")) {
+                statement.setInt(1, limit);
+                statement.setFetchSize(STREAM_FETCH_SIZE);
+                int rows = 0;
+                BigDecimal total = BigDecimal.ZERO;
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        total = total.add(rs.getBigDecimal(5));
+                    }
+                }
+                return new Result(mode, rows, 1, total);
+            }
+        });
+    }
+
+    // Builds every row into a list before looking at any of them, like an ORM findAll()
+    private Result materialized(Connection connection, Mode mode, int limit) throws SQLException {
+        List<Order> loaded = timed(mode, "all_orders", () -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, customer_id, reference, status, amount, created_at FROM orders ORDER BY id LIMIT ?")) {
+                statement.setInt(1, limit);
+                List<Order> all = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        all.add(new Order(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4),
+                                rs.getBigDecimal(5), rs.getTimestamp(6)));
+                    }
+                }
+                return all;
+            }
+        });
+        BigDecimal total = BigDecimal.ZERO;
+        for (Order order : loaded) {
+            total = total.add(order.amount());
+        }
+        return new Result(mode, loaded.size(), 1, total);
+    }
+
+    private static Result sumAmounts(Mode mode, PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+                total = total.add(rs.getBigDecimal(2));
+            }
+        }
+        return new Result(mode, rows, 1, total);
+    }
+
+    private <T> T timed(Mode mode, String query, Query<T> call) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return call.run();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timers.get(mode).get(query).record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed >= slowQueryNanos) {
+                logger.warn("Slow query {} took {}ms (mode={}, request_id={})",
+                        query, TimeUnit.NANOSECONDS.toMillis(elapsed), mode.tag(), MDC.get("request_id"));
+            }
+        }
+    }
+
+    private long randomCustomer() {
+        return ThreadLocalRandom.current().nextLong(1, customers + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.aletheia.testservice.downstream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One shared HttpClient for outbound calls. The JDK client keeps idle connections alive but
+// puts no cap on how many it opens, so requests are pinned to HTTP/1.1 (one exchange per
+// connection) and a fair semaphore stands in for the pool limit: callers queue for a slot and
+// give up after the acquire timeout, like a saturated Apache or OkHttp pool.
+//
+// Retries use exponential backoff with full jitter and only for connect failures, timeouts
+// and the configured statuses. A slot is held for one attempt at a time, never across a backoff.
+@Component
+public class DownstreamClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(DownstreamClient.class);
+    private static final List<String> ERROR_RETRY_REASONS = List.of("connect_timeout", "timeout", "connect_error", "io_error");
+
+    public enum Outcome {
+        SUCCESS, HTTP_ERROR, ERROR, POOL_EXHAUSTED;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public record Result(Outcome outcome, int status, String body, int attempts, Duration duration, String error) {
+    }
+
+    private static final class PoolExhaustedException extends RuntimeException {
+        PoolExhaustedException(String message) {
+            super(message);
+        }
+    }
+
+    private final HttpClient client;
+    private final URI target;
+    private final String targetTag;
+    private final int maxConnections;
+    private final Duration acquireTimeout;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Set<Integer> retryStatuses;
+
+    private final Semaphore connections;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+    private final Timer acquire;
+    private final Counter acquireTimeouts;
+    private final Timer[] calls = new Timer[Outcome.values().length];
+    // Indexed by status / 100; HttpClient never surfaces 1xx, anything past 5xx counts as 5xx
+    private final Timer[] attemptsByStatusClass = new Timer[6];
+    private final Timer attemptTimeouts;
+    private final Timer attemptIoErrors;
+    private final Map<String, Counter> retries;
+
+    public DownstreamClient(MeterRegistry meterRegistry,
+                            @Value("${aletheia.call.target:http://localhost:8081/api/v1/called}") URI target,
+                            @Value("${aletheia.call.max-connections:20}") int maxConnections,
+                            @Value("${aletheia.call.acquire-timeout:1s}") Duration acquireTimeout,
+                            @Value("${aletheia.call.connect-timeout:1s}") Duration connectTimeout,
+                            @Value("${aletheia.call.request-timeout:5s}") Duration requestTimeout,
+                            @Value("${aletheia.call.max-attempts:3}") int maxAttempts,
+                            @Value("${aletheia.call.backoff:100ms}") Duration backoff,
+                            @Value("${aletheia.call.max-backoff:2s}") Duration maxBackoff,
+                            @Value("${aletheia.call.retry-statuses:502,503,504}") List<Integer> retryStatuses) {
+        if (maxConnections < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("aletheia.call.max-connections and max-attempts must be at least 1");
+        }
+        this.target = target;
+        this.targetTag = target.getAuthority();
+        this.maxConnections = maxConnections;
+        this.acquireTimeout = acquireTimeout;
+        this.requestTimeout = requestTimeout;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.retryStatuses = Set.copyOf(new HashSet<>(retryStatuses));
+        this.connections = new Semaphore(maxConnections, true);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        this.meterRegistry = meterRegistry;
+        this.acquire = Timer.builder("downstream_pool_acquire")
+                .description("Time waiting for a downstream connection slot")
+                .tag("target", targetTag)
+                .register(meterRegistry);
+        this.acquireTimeouts = Counter.builder("downstream_pool_timeouts_total")
+                .description("Calls that gave up waiting for a downstream connection slot")
+                .tag("target", targetTag)
+                .register(meterRegistry);
+        Gauge.builder("downstream_pool_active", active, AtomicInteger::get)
+                .description("Downstream connections in use").tag("target", targetTag).register(meterRegistry);
+        Gauge.builder("downstream_pool_pending", pending, AtomicInteger::get)
+                .description("Callers waiting for a downstream connection").tag("target", targetTag).register(meterRegistry);
+        Gauge.builder("downstream_pool_max", () -> maxConnections)
+                .description("Downstream connection limit").tag("target", targetTag).register(meterRegistry);
+        for (Outcome outcome : Outcome.values()) {
+            calls[outcome.ordinal()] = Timer.builder("downstream_call_duration")
+                    .description("Downstream call time including retries and backoff")
+                    .tag("target", targetTag)
+                    .tag("outcome", outcome.tag())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+        }
+        for (int statusClass = 2; statusClass <= 5; statusClass++) {
+            attemptsByStatusClass[statusClass] = attemptTimer(statusClass + "xx");
+        }
+        this.attemptTimeouts = attemptTimer("timeout");
+        this.attemptIoErrors = attemptTimer("io_error");
+        Map<String, Counter> retryCounters = new HashMap<>();
+        for (String reason : ERROR_RETRY_REASONS) {
+            retryCounters.put(reason, retryCounter(reason));
+        }
+        for (int status : this.retryStatuses) {
+            retryCounters.put("status_" + status, retryCounter("status_" + status));
+        }
+        this.retries = Map.copyOf(retryCounters);
+    }
+
+    private Timer attemptTimer(String status) {
+        return Timer.builder("downstream_attempt_duration")
+                .description("Single downstream HTTP exchange time")
+                .tag("target", targetTag)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
+    private Counter retryCounter(String reason) {
+        return Counter.builder("downstream_retries_total")
+                .description("Downstream attempts retried, by reason")
+                .tag("target", targetTag)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public URI getTarget() {
+        return target;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    // body may be null for a bodiless POST; attempts of 0 uses the configured maximum
+    public Result call(String body, String requestId, int attempts) {
+        int allowed = attempts > 0 ? Math.min(attempts, maxAttempts) : maxAttempts;
+        long start = System.nanoTime();
+        Result result = execute(body, requestId, allowed, start);
+        calls[result.outcome().ordinal()].record(result.duration());
+        return result;
+    }
+
+    private Result execute(String body, String requestId, int allowed, long start) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("User-Agent", "java-test-service/1.0")
+                .POST(body != null ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody());
+        if (requestId != null) {
+            builder.header("X-Request-Id", requestId);
+        }
+        HttpRequest request = builder.build();
+
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            String retryReason;
+            HttpResponse<String> response = null;
+            String error = null;
+            try {
+                response = attempt(request);
+                if (!retryStatuses.contains(response.statusCode())) {
+                    Outcome outcome = response.statusCode() < 400 ? Outcome.SUCCESS : Outcome.HTTP_ERROR;
+                    return new Result(outcome, response.statusCode(), response.body(), attempt, elapsed(start), null);
+                }
+                retryReason = "status_" + response.statusCode();
+            } catch (PoolExhaustedException e) {
+                return new Result(Outcome.POOL_EXHAUSTED, 0, null, attempt, elapsed(start), e.getMessage());
+            } catch (HttpConnectTimeoutException e) {
+                retryReason = "connect_timeout";
+                error = "Connect timed out: " + target;
+            } catch (HttpTimeoutException e) {
+                retryReason = "timeout";
+                error = "Request timed out after " + requestTimeout;
+            } catch (ConnectException e) {
+                retryReason = "connect_error";
+                error = "Connection refused: " + target;
+            } catch (IOException e) {
+                retryReason = "io_error";
+                error = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Result(Outcome.ERROR, 0, null, attempt, elapsed(start), "Interrupted");
+            }
+
+            if (attempt >= allowed) {
+                logger.warn("Downstream call to {} failed after {} attempt(s): {} (request_id={})",
+                        target, attempt, error != null ? error : retryReason, requestId);
+                return response != null
+                        ? new Result(Outcome.HTTP_ERROR, response.statusCode(), response.body(), attempt, elapsed(start), null)
+                        : new Result(Outcome.ERROR, 0, null, attempt, elapsed(start), error);
+            }
+            retries.get(retryReason).increment();
+            Duration delay = backoffFor(attempt);
+            logger.info("Retrying downstream call to {} in {}ms after {} (attempt {}/{}, request_id={})",
+                    target, delay.toMillis(), retryReason, attempt, allowed, requestId);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Result(Outcome.ERROR, 0, null, attempt, elapsed(start), "Interrupted");
+            }
+        }
+    }
+
+    private HttpResponse<String> attempt(HttpRequest request) throws IOException, InterruptedException {
+        long waitStart = System.nanoTime();
+        pending.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = connections.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            pending.decrementAndGet();
+        }
+        if (!acquired) {
+            acquireTimeouts.increment();
+            throw new PoolExhaustedException("No downstream connection available after " + acquireTimeout
+                    + " (max=" + maxConnections + ", active=" + active.get() + ", pending=" + pending.get() + ")");
+        }
+        acquire.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+        active.incrementAndGet();
+        long attemptStart = System.nanoTime();
+        Timer timer = attemptIoErrors;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            timer = attemptsByStatusClass[Math.min(Math.max(response.statusCode() / 100, 2), 5)];
+            return response;
+        } catch (HttpTimeoutException e) {
+            timer = attemptTimeouts;
+            throw e;
+        } finally {
+            active.decrementAndGet();
+            connections.release();
+            timer.record(System.nanoTime() - attemptStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Full jitter: uniform in [0, min(maxBackoff, backoff * 2^(attempt-1))]
+    private Duration backoffFor(int attempt) {
+        long ceiling = Math.min(maxBackoff.toNanos(), backoff.toNanos() << Math.min(attempt - 1, 20));
+        return Duration.ofNanos(ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0);
+    }
+
+    private static Duration elapsed(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,42 @@
+package com.aletheia.testservice.exception;
+
+import com.aletheia.testservice.model.ErrorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// Same field layout Jackson derives from the record, with the stack trace spliced in
+// from StackTraceCache when it is enabled.
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    private final StackTraceCache stackTraceCache;
+
+    public ErrorResponseSerializer(StackTraceCache stackTraceCache) {
+        super(ErrorResponse.class);
+        this.stackTraceCache = stackTraceCache;
+    }
+
+    @Override
+    public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeStringField("error", value.error());
+        gen.writeStringField("errorType", value.errorType());
+        gen.writeStringField("exceptionClass", value.exceptionClass());
+        gen.writeStringField("timestamp", value.timestamp());
+        gen.writeStringField("requestId", value.requestId());
+        gen.writeFieldName("stackTrace");
+
+        StackTraceElement[] stackTrace = value.stackTrace();
+        if (stackTrace == null) {
+            gen.writeNull();
+        } else if (stackTraceCache.isEnabled()) {
+            gen.writeRawValue(stackTraceCache.encoded(value.exceptionClass(), stackTrace));
+        } else {
+            provider.defaultSerializeValue(stackTrace, gen);
+        }
+
+        gen.writeEndObject();
+    }
+}
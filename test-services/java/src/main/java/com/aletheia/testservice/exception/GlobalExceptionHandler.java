@@ -1,5 +1,6 @@
 package com.aletheia.testservice.exception;
 
+import com.aletheia.testservice.metrics.ErrorMetrics;
 import com.aletheia.testservice.model.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,8 +17,15 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ErrorMetrics errorMetrics;
+
+    public GlobalExceptionHandler(ErrorMetrics errorMetrics) {
+        this.errorMetrics = errorMetrics;
+    }
+
     @ExceptionHandler(NullPointerException.class)
     public ResponseEntity<ErrorResponse> handleNullPointerException(NullPointerException ex) {
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         logger.error("NullPointerException occurred (request_id={})", requestId, ex);
         
@@ -29,11 +37,13 @@ public class GlobalExceptionHandler {
                 ex.getStackTrace()
         );
         
+        errorMetrics.recordHandler("null_pointer_exception", start);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
     @ExceptionHandler(ArrayIndexOutOfBoundsException.class)
     public ResponseEntity<ErrorResponse> handleArrayIndexOutOfBoundsException(ArrayIndexOutOfBoundsException ex) {
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         logger.error("ArrayIndexOutOfBoundsException occurred (request_id={})", requestId, ex);
         
@@ -45,11 +55,13 @@ public class GlobalExceptionHandler {
                 ex.getStackTrace()
         );
         
+        errorMetrics.recordHandler("array_index_out_of_bounds", start);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
     @ExceptionHandler(ArithmeticException.class)
     public ResponseEntity<ErrorResponse> handleArithmeticException(ArithmeticException ex) {
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         logger.error("ArithmeticException occurred (request_id={})", requestId, ex);
         
@@ -61,11 +73,13 @@ public class GlobalExceptionHandler {
                 ex.getStackTrace()
         );
         
+        errorMetrics.recordHandler("arithmetic_exception", start);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
     @ExceptionHandler(SQLException.class)
     public ResponseEntity<ErrorResponse> handleSQLException(SQLException ex) {
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         logger.error("SQLException occurred (request_id={}, sqlState={}, errorCode={})", 
                 requestId, ex.getSQLState(), ex.getErrorCode(), ex);
@@ -78,11 +92,13 @@ public class GlobalExceptionHandler {
                 ex.getStackTrace()
         );
         
+        errorMetrics.recordHandler("sql_exception", start);
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 
     @ExceptionHandler(OutOfMemoryError.class)
     public ResponseEntity<ErrorResponse> handleOutOfMemoryError(OutOfMemoryError ex) {
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         logger.error("OutOfMemoryError occurred (request_id={})", requestId, ex);
         
@@ -94,11 +110,31 @@ public class GlobalExceptionHandler {
                 ex.getStackTrace()
         );
         
+        errorMetrics.recordHandler("out_of_memory_error", start);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        long start = System.nanoTime();
+        String requestId = MDC.get("request_id");
+        logger.warn("Invalid request parameter (request_id={}): {}", requestId, ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                ex.getMessage(),
+                "invalid_request",
+                ex.getClass().getName(),
+                requestId,
+                null
+        );
+
+        errorMetrics.recordHandler("invalid_request", start);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         
         // Check if the cause is one of our handled exceptions
@@ -123,11 +159,13 @@ public class GlobalExceptionHandler {
                 ex.getStackTrace()
         );
         
+        errorMetrics.recordHandler("runtime_exception", start);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        long start = System.nanoTime();
         String requestId = MDC.get("request_id");
         logger.error("Unexpected exception occurred (request_id={})", requestId, ex);
         
@@ -139,6 +177,7 @@ public class GlobalExceptionHandler {
                 ex.getStackTrace()
         );
         
+        errorMetrics.recordHandler("unexpected_exception", start);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 }
@@ -0,0 +1,78 @@
+package com.aletheia.testservice.exception;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Injected failures come from a fixed set of call paths, so stack traces are encoded
+// to JSON once per exception class and stack and reused for every later response.
+@Component
+public class StackTraceCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final ConcurrentMap<Key, SerializableString> entries = new ConcurrentHashMap<>();
+    private final ObjectWriter writer = new ObjectMapper().writerFor(StackTraceElement[].class);
+    private final Counter hits;
+    private final Counter misses;
+
+    public StackTraceCache(
+            MeterRegistry meterRegistry,
+            @Value("${aletheia.error-response.stack-trace-cache.enabled:true}") boolean enabled,
+            @Value("${aletheia.error-response.stack-trace-cache.max-entries:256}") int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("error_response_stack_cache_total")
+                .description("Stack trace JSON cache lookups by result")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("error_response_stack_cache_total")
+                .description("Stack trace JSON cache lookups by result")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("error_response_stack_cache_size", entries, ConcurrentMap::size)
+                .description("Number of cached stack trace encodings")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SerializableString encoded(String exceptionClass, StackTraceElement[] stackTrace) throws IOException {
+        // The whole frame list is the key: two paths through the same throw site must not share
+        // an entry. Hashing frames is still far cheaper than encoding them.
+        Key key = new Key(exceptionClass, List.of(stackTrace));
+        SerializableString cached = entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        SerializedString encoded = new SerializedString(
+                new String(writer.writeValueAsBytes(stackTrace), StandardCharsets.UTF_8));
+        // Encode the UTF-8 form once up front so hits write the bytes as-is
+        encoded.asUnquotedUTF8();
+        // Past the bound, keep serving new throw sites without caching them
+        if (entries.size() < maxEntries) {
+            entries.putIfAbsent(key, encoded);
+        }
+        return encoded;
+    }
+
+    private record Key(String exceptionClass, List<StackTraceElement> frames) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.aletheia.testservice.fault;
+
+import com.aletheia.testservice.model.ErrorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class BuiltInErrorFaults {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuiltInErrorFaults.class);
+
+    @Bean
+    public ErrorFault nullPointerFault() {
+        return ErrorFault.of(ErrorType.NPE, () -> {
+            logger.error("About to trigger NullPointerException");
+            String str = null;
+            str.length(); // This will throw NullPointerException
+        });
+    }
+
+    @Bean
+    public ErrorFault arrayIndexFault() {
+        return ErrorFault.of(ErrorType.ARRAY_INDEX, () -> {
+            logger.error("About to trigger ArrayIndexOutOfBoundsException");
+            int[] array = {1, 2, 3};
+            int value = array[10]; // This will throw ArrayIndexOutOfBoundsException
+        });
+    }
+
+    @Bean
+    public ErrorFault divideByZeroFault() {
+        return ErrorFault.of(ErrorType.DIVIDE_BY_ZERO, () -> {
+            logger.error("About to trigger ArithmeticException");
+            int x = 42;
+            int y = 0;
+            int result = x / y; // This will throw ArithmeticException
+        });
+    }
+
+    @Bean
+    public ErrorFault jsonErrorFault(ObjectMapper objectMapper) {
+        return ErrorFault.of(ErrorType.JSON_ERROR, () -> {
+            logger.error("About to trigger JsonProcessingException");
+            String invalidJson = "{\"broken\": json}";
+            objectMapper.readValue(invalidJson, Map.class); // This will throw JsonProcessingException
+        });
+    }
+
+    @Bean
+    public ErrorFault sqlErrorFault() {
+        return ErrorFault.of(ErrorType.SQL_ERROR, () -> {
+            logger.error("About to trigger SQLException");
+            // Simulate database connection timeout
+            try {
+                Thread.sleep(100); // Simulate delay
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SQLException("Connection timeout after 30s", "08001", 0);
+        });
+    }
+
+    @Bean
+    public ErrorFault outOfMemoryFault() {
+        return ErrorFault.of(ErrorType.OOM, () -> {
+            logger.error("About to trigger OutOfMemoryError (simulated)");
+            // Simulate OOM by allocating large array
+            // NOTE: This may actually cause OOM in small containers
+            List<byte[]> memoryHog = new ArrayList<>();
+            try {
+                while (true) {
+                    memoryHog.add(new byte[1024 * 1024 * 10]); // 10MB chunks
+                }
+            } catch (OutOfMemoryError e) {
+                logger.error("OutOfMemoryError triggered", e);
+                throw e;
+            }
+        });
+    }
+}
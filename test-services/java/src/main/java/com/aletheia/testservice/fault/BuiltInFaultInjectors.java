@@ -0,0 +1,148 @@
+package com.aletheia.testservice.fault;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.List;
+
+// Fault injectors that have no /api/v1/error type. Each is a bean so FaultInjectorRegistry
+// discovers it; none needs its own controller or exception handler.
+@Configuration
+public class BuiltInFaultInjectors {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuiltInFaultInjectors.class);
+    // spring.mvc.async.request-timeout, so a sleeping failure never outlives its request by much
+    private static final long MAX_DELAY_MS = 60_000;
+
+    @Bean
+    public FaultInjector exceptionChainInjector() {
+        return new ExceptionChain();
+    }
+
+    @Bean
+    public FaultInjector asyncFailureInjector() {
+        return new AsyncFailure();
+    }
+
+    @Bean
+    public FaultInjector backgroundFailureInjector() {
+        return new BackgroundFailure();
+    }
+
+    // Nested cause chain, for exercising cause-chain parsing in log pipelines
+    static class ExceptionChain implements FaultInjector {
+
+        @Override
+        public String name() {
+            return "exception_chain";
+        }
+
+        @Override
+        public String description() {
+            return "Throws an IllegalStateException wrapping a chain of causes";
+        }
+
+        @Override
+        public List<Parameter> parameters() {
+            return List.of(new Parameter("depth", "3", "Number of wrapped causes"));
+        }
+
+        @Override
+        public void inject(Parameters parameters) {
+            int depth = Integer.parseInt(parameters.get("depth"));
+            if (depth < 0 || depth > 100) {
+                throw new IllegalArgumentException("depth must be between 0 and 100");
+            }
+            logger.error("About to trigger exception chain of depth {}", depth);
+            Exception cause = new IOException("Connection reset by peer");
+            for (int i = 1; i < depth; i++) {
+                cause = new RuntimeException("Layer " + i + " failed", cause);
+            }
+            throw new IllegalStateException("Request processing failed", depth > 0 ? cause : null);
+        }
+    }
+
+    private static long delayMs(FaultInjector.Parameters parameters) {
+        long delayMs = Long.parseLong(parameters.get("delay_ms"));
+        if (delayMs < 0 || delayMs > MAX_DELAY_MS) {
+            throw new IllegalArgumentException("delay_ms must be between 0 and " + MAX_DELAY_MS);
+        }
+        return delayMs;
+    }
+
+    // Failure raised on another thread after a delay, delivered through async dispatch
+    static class AsyncFailure implements FaultInjector {
+
+        @Override
+        public String name() {
+            return "async_failure";
+        }
+
+        @Override
+        public String description() {
+            return "Fails on the fault executor after a delay while the request waits asynchronously";
+        }
+
+        @Override
+        public List<Parameter> parameters() {
+            return List.of(new Parameter("delay_ms", "50", "Milliseconds before the failure"));
+        }
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.ASYNC;
+        }
+
+        @Override
+        public void validate(Parameters parameters) {
+            delayMs(parameters);
+        }
+
+        @Override
+        public void inject(Parameters parameters) throws InterruptedException {
+            long delayMs = delayMs(parameters);
+            Thread.sleep(delayMs);
+            logger.error("About to fail asynchronously after {}ms", delayMs);
+            throw new IllegalStateException("Downstream dependency failed after " + delayMs + "ms");
+        }
+    }
+
+    // Failure no request ever sees: only the log line and metrics record it
+    static class BackgroundFailure implements FaultInjector {
+
+        @Override
+        public String name() {
+            return "background_failure";
+        }
+
+        @Override
+        public String description() {
+            return "Fails on a background thread after the request has returned";
+        }
+
+        @Override
+        public List<Parameter> parameters() {
+            return List.of(new Parameter("delay_ms", "100", "Milliseconds before the failure"));
+        }
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.BACKGROUND;
+        }
+
+        @Override
+        public void validate(Parameters parameters) {
+            delayMs(parameters);
+        }
+
+        @Override
+        public void inject(Parameters parameters) throws InterruptedException {
+            long delayMs = delayMs(parameters);
+            Thread.sleep(delayMs);
+            throw new IllegalStateException("Scheduled job failed after " + delayMs + "ms");
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.aletheia.testservice.fault;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Generates CPU load on a dedicated ForkJoinPool with one worker per core, so a burn on
+// N cores saturates exactly N threads regardless of what the request threads are doing.
+@Component
+public class CpuBurner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CpuBurner.class);
+    // Duty-cycle period: each worker is busy for utilization% of every period
+    private static final long PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public record Burn(long id, Duration duration, int utilization, int cores, CpuWorkload workload) {
+    }
+
+    private final int parallelism;
+    private final Duration maxDuration;
+    private final ForkJoinPool pool;
+    private final AtomicLongArray busyNanos;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong burnIds = new AtomicLong();
+    // Deadlines of running burns; cancel() pulls one forward and workers see it within a period
+    private final Map<Long, AtomicLong> deadlines = new ConcurrentHashMap<>();
+    private volatile long sink;
+
+    public CpuBurner(MeterRegistry meterRegistry,
+                     @Value("${aletheia.cpu.max-duration:10m}") Duration maxDuration,
+                     @Value("${aletheia.cpu.workers:0}") int workers) {
+        // Containers with fractional CPU limits report a single processor; allow oversubscribing
+        this.parallelism = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.maxDuration = maxDuration;
+        this.busyNanos = new AtomicLongArray(parallelism);
+
+        // The pool retires idle workers and creates new ones later, so slots (and with them the
+        // worker tag) are handed out from a free list and returned when a worker exits
+        ConcurrentLinkedQueue<Integer> freeSlots = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < parallelism; i++) {
+            freeSlots.add(i);
+        }
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            Integer slot = freeSlots.poll();
+            // Returning null just leaves the pool a thread short until a slot frees up
+            return slot != null ? new BurnerThread(p, slot, freeSlots) : null;
+        }, null, false);
+
+        for (int i = 0; i < parallelism; i++) {
+            int slot = i;
+            FunctionCounter.builder("cpu_burn_busy_seconds", busyNanos, nanos -> nanos.get(slot) / 1e9)
+                    .description("CPU time spent burning by each burner worker")
+                    .tag("worker", String.valueOf(slot))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("cpu_burn_active_workers", activeWorkers, AtomicInteger::get)
+                .description("Burner workers currently running")
+                .register(meterRegistry);
+        Gauge.builder("cpu_burn_max_workers", () -> parallelism)
+                .description("Burner workers available, one per core")
+                .register(meterRegistry);
+    }
+
+    public Burn start(Duration duration, int utilization, int cores, CpuWorkload workload) {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("duration must be between 0 and " + maxDuration);
+        }
+        if (utilization < 1 || utilization > 100) {
+            throw new IllegalArgumentException("utilization must be between 1 and 100");
+        }
+        if (cores < 1 || cores > parallelism) {
+            throw new IllegalArgumentException("cores must be between 1 and " + parallelism);
+        }
+
+        Burn burn = new Burn(burnIds.incrementAndGet(), duration, utilization, cores, workload);
+        AtomicLong deadline = new AtomicLong(System.nanoTime() + duration.toNanos());
+        AtomicInteger remaining = new AtomicInteger(cores);
+        deadlines.put(burn.id(), deadline);
+        for (int i = 0; i < cores; i++) {
+            pool.execute(() -> {
+                try {
+                    burn(burn, deadline);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        deadlines.remove(burn.id());
+                    }
+                }
+            });
+        }
+        logger.info("Started CPU burn {}: {} on {} core(s) at {}% for {}",
+                burn.id(), workload.tag(), cores, utilization, duration);
+        return burn;
+    }
+
+    // Returns false if the burn had already finished
+    public boolean cancel(Burn burn) {
+        AtomicLong deadline = deadlines.remove(burn.id());
+        if (deadline == null) {
+            return false;
+        }
+        deadline.set(System.nanoTime());
+        logger.info("Cancelled CPU burn {}", burn.id());
+        return true;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private void burn(Burn burn, AtomicLong deadlineRef) {
+        int slot = ((BurnerThread) Thread.currentThread()).slot;
+        long busyPerPeriod = PERIOD_NANOS * burn.utilization() / 100;
+        long local = 0;
+        activeWorkers.incrementAndGet();
+        try {
+            long periodStart = System.nanoTime();
+            long deadline;
+            while (periodStart < (deadline = deadlineRef.get())) {
+                long busyEnd = Math.min(periodStart + busyPerPeriod, deadline);
+                long now = periodStart;
+                while (now < busyEnd) {
+                    local ^= burn.workload().run();
+                    now = System.nanoTime();
+                }
+                busyNanos.addAndGet(slot, now - periodStart);
+
+                long idle = periodStart + PERIOD_NANOS - now;
+                if (idle > 0 && now < deadline) {
+                    Thread.sleep(Duration.ofNanos(Math.min(idle, deadline - now)));
+                }
+                periodStart = System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeWorkers.decrementAndGet();
+            // Publish the result so the JIT can't drop the work
+            sink = local;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static final class BurnerThread extends ForkJoinWorkerThread {
+        private final int slot;
+        private final ConcurrentLinkedQueue<Integer> freeSlots;
+
+        private BurnerThread(ForkJoinPool pool, int slot, ConcurrentLinkedQueue<Integer> freeSlots) {
+            super(pool);
+            this.slot = slot;
+            this.freeSlots = freeSlots;
+            setName("cpu-burner-" + slot);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            try {
+                super.onTermination(exception);
+            } finally {
+                freeSlots.add(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.aletheia.testservice.fault;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// Units of CPU work, each taking on the order of tens of microseconds so the burner
+// can check its duty-cycle deadline between units.
+public enum CpuWorkload {
+
+    LOOP {
+        @Override
+        public long run() {
+            long x = System.nanoTime();
+            for (int i = 0; i < 20_000; i++) {
+                x ^= x << 13;
+                x ^= x >>> 7;
+                x ^= x << 17;
+            }
+            return x;
+        }
+    },
+
+    HASH {
+        private final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        private final byte[] block = new byte[4096];
+
+        @Override
+        public long run() {
+            MessageDigest md = digest.get();
+            md.update(block);
+            byte[] hash = md.digest();
+            return hash[0];
+        }
+    },
+
+    // Catastrophic backtracking: (a+)+b never matches a run of a's
+    REGEX {
+        private final Pattern pattern = Pattern.compile("(a+)+b");
+        private final String input = "a".repeat(14);
+
+        @Override
+        public long run() {
+            return pattern.matcher(input).matches() ? 1 : 0;
+        }
+    },
+
+    BIGINT {
+        private final BigInteger modulus = BigInteger.probablePrime(1024, ThreadLocalRandom.current());
+
+        @Override
+        public long run() {
+            BigInteger base = BigInteger.valueOf(ThreadLocalRandom.current().nextLong(2, Long.MAX_VALUE));
+            return base.modPow(BigInteger.valueOf(65_537), modulus).longValue();
+        }
+    };
+
+    public abstract long run();
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static CpuWorkload fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown CPU workload '" + name
+                    + "', expected one of loop, hash, regex, bigint");
+        }
+    }
+}
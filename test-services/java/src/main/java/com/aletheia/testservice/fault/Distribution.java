@@ -0,0 +1,162 @@
+package com.aletheia.testservice.fault;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+// Sampling distributions for injected faults, parsed from compact specs such as
+// "fixed:100", "uniform:50,200", "normal:100,20", "lognormal:100,0.5",
+// "pareto:50,1.5" or "bimodal:20,500,0.1". A bare number is a fixed value.
+public sealed interface Distribution {
+
+    List<String> KINDS = List.of("fixed", "uniform", "normal", "lognormal", "pareto", "bimodal");
+
+    String kind();
+
+    double sample(Random random);
+
+    static Distribution parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new IllegalArgumentException("Empty distribution spec");
+        }
+
+        String trimmed = spec.trim();
+        int colon = trimmed.indexOf(':');
+        if (colon < 0) {
+            return new Fixed(parseArg(trimmed, spec));
+        }
+
+        String kind = trimmed.substring(0, colon).toLowerCase(Locale.ROOT);
+        String[] parts = trimmed.substring(colon + 1).split(",");
+        double[] args = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            args[i] = parseArg(parts[i].trim(), spec);
+        }
+
+        return switch (kind) {
+            case "fixed" -> {
+                requireArgs(args, 1, spec);
+                yield new Fixed(args[0]);
+            }
+            case "uniform" -> {
+                requireArgs(args, 2, spec);
+                yield new Uniform(args[0], args[1]);
+            }
+            case "normal" -> {
+                requireArgs(args, 2, spec);
+                yield new Normal(args[0], args[1]);
+            }
+            case "lognormal" -> {
+                requireArgs(args, 2, spec);
+                yield new LogNormal(args[0], args[1]);
+            }
+            case "pareto" -> {
+                requireArgs(args, 2, spec);
+                yield new Pareto(args[0], args[1]);
+            }
+            case "bimodal" -> {
+                requireArgs(args, 3, spec);
+                yield new Bimodal(args[0], args[1], args[2]);
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unknown distribution '" + kind + "', expected one of " + KINDS);
+        };
+    }
+
+    private static double parseArg(String value, String spec) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number '" + value + "' in distribution spec: " + spec);
+        }
+    }
+
+    private static void requireArgs(double[] args, int expected, String spec) {
+        if (args.length != expected) {
+            throw new IllegalArgumentException(
+                    "Expected " + expected + " argument(s) in distribution spec: " + spec);
+        }
+    }
+
+    record Fixed(double value) implements Distribution {
+        public String kind() {
+            return "fixed";
+        }
+
+        public double sample(Random random) {
+            return value;
+        }
+    }
+
+    record Uniform(double min, double max) implements Distribution {
+        public Uniform {
+            if (max < min) {
+                throw new IllegalArgumentException("uniform max must be >= min");
+            }
+        }
+
+        public String kind() {
+            return "uniform";
+        }
+
+        public double sample(Random random) {
+            return min + random.nextDouble() * (max - min);
+        }
+    }
+
+    record Normal(double mean, double stddev) implements Distribution {
+        public String kind() {
+            return "normal";
+        }
+
+        public double sample(Random random) {
+            return mean + random.nextGaussian() * stddev;
+        }
+    }
+
+    // Parameterised by the median and the standard deviation of the underlying normal
+    record LogNormal(double median, double sigma) implements Distribution {
+        public String kind() {
+            return "lognormal";
+        }
+
+        public double sample(Random random) {
+            return median * Math.exp(sigma * random.nextGaussian());
+        }
+    }
+
+    // Heavy tail: scale is the minimum value, lower shape means a fatter tail
+    record Pareto(double scale, double shape) implements Distribution {
+        public Pareto {
+            if (shape <= 0) {
+                throw new IllegalArgumentException("pareto shape must be > 0");
+            }
+        }
+
+        public String kind() {
+            return "pareto";
+        }
+
+        public double sample(Random random) {
+            return scale / Math.pow(1.0 - random.nextDouble(), 1.0 / shape);
+        }
+    }
+
+    // Two modes with 10% jitter each; slowFraction of samples land on the slow mode
+    record Bimodal(double fast, double slow, double slowFraction) implements Distribution {
+        public Bimodal {
+            if (slowFraction < 0 || slowFraction > 1) {
+                throw new IllegalArgumentException("bimodal slow fraction must be between 0 and 1");
+            }
+        }
+
+        public String kind() {
+            return "bimodal";
+        }
+
+        public double sample(Random random) {
+            double mode = random.nextDouble() < slowFraction ? slow : fast;
+            return mode * (1.0 + 0.1 * random.nextGaussian());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.aletheia.testservice.fault;
+
+import com.aletheia.testservice.model.ErrorType;
+
+// A failure raised by /api/v1/error. Implementations are Spring beans picked up by
+// ErrorFaultRegistry, so a new type only needs an ErrorType constant and a bean. Every
+// error fault is also a FaultInjector named after its tag.
+public interface ErrorFault extends FaultInjector {
+
+    ErrorType type();
+
+    // Throws the fault; returning normally is a bug in the implementation
+    void trigger() throws Exception;
+
+    @Override
+    default String name() {
+        return type().tag();
+    }
+
+    @Override
+    default String description() {
+        return "Throws " + type().exceptionClass();
+    }
+
+    @Override
+    default void inject(Parameters parameters) throws Exception {
+        trigger();
+    }
+
+    static ErrorFault of(ErrorType type, Action action) {
+        return new ErrorFault() {
+            @Override
+            public ErrorType type() {
+                return type;
+            }
+
+            @Override
+            public void trigger() throws Exception {
+                action.run();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface Action {
+        void run() throws Exception;
+    }
+}
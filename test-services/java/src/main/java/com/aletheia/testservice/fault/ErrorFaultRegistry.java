@@ -0,0 +1,57 @@
+package com.aletheia.testservice.fault;
+
+import com.aletheia.testservice.model.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Name -> fault lookup for /api/v1/error, built once from every ErrorFault bean. Tags and
+// aliases are stored lower-case so the common request needs one hash lookup and no
+// lower-casing; mixed-case input falls back to a second lookup.
+@Component
+public class ErrorFaultRegistry {
+
+    private final Map<String, ErrorFault> byName;
+    private final List<String> availableTypes;
+
+    public ErrorFaultRegistry(List<ErrorFault> faults) {
+        List<ErrorFault> sorted = new ArrayList<>(faults);
+        sorted.sort(Comparator.comparing(ErrorFault::type));
+
+        Map<String, ErrorFault> names = new HashMap<>();
+        List<String> tags = new ArrayList<>();
+        for (ErrorFault fault : sorted) {
+            ErrorType type = fault.type();
+            register(names, type.tag(), fault);
+            for (String alias : type.aliases()) {
+                register(names, alias, fault);
+            }
+            tags.add(type.tag());
+        }
+        this.byName = Map.copyOf(names);
+        this.availableTypes = List.copyOf(tags);
+    }
+
+    private static void register(Map<String, ErrorFault> names, String name, ErrorFault fault) {
+        ErrorFault previous = names.putIfAbsent(name.toLowerCase(Locale.ROOT), fault);
+        if (previous != null) {
+            throw new IllegalStateException("Error fault name '" + name + "' is claimed by both "
+                    + previous.type() + " and " + fault.type());
+        }
+    }
+
+    // Returns null for unknown names
+    public ErrorFault find(String name) {
+        ErrorFault fault = byName.get(name);
+        return fault != null ? fault : byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public List<String> availableTypes() {
+        return availableTypes;
+    }
+}
@@ -0,0 +1,50 @@
+package com.aletheia.testservice.fault;
+
+import java.util.List;
+
+// A failure mode served by /api/v1/faults/{name}. Implementations are Spring beans collected by
+// FaultInjectorRegistry, so a new mode is just a new bean: anything it throws reaches the generic
+// RuntimeException/Exception handlers in GlobalExceptionHandler, and it can be switched on and
+// off through /actuator/faults.
+public interface FaultInjector {
+
+    // Lower-case snake_case, unique across all injectors
+    String name();
+
+    default String description() {
+        return "";
+    }
+
+    default List<Parameter> parameters() {
+        return List.of();
+    }
+
+    default Strategy strategy() {
+        return Strategy.SYNC;
+    }
+
+    // Runs on the request thread before dispatch, so bad parameters get a 400 even when
+    // inject() itself runs later on another thread
+    default void validate(Parameters parameters) {
+    }
+
+    void inject(Parameters parameters) throws Exception;
+
+    enum Strategy {
+        // On the request thread
+        SYNC,
+        // On the fault executor; the request waits for the outcome without holding its thread
+        ASYNC,
+        // On the fault executor; the request returns 202 straight away
+        BACKGROUND
+    }
+
+    record Parameter(String name, String defaultValue, String description) {
+    }
+
+    @FunctionalInterface
+    interface Parameters {
+        // Request value, else the declared default, else null
+        String get(String name);
+    }
+}
@@ -0,0 +1,70 @@
+package com.aletheia.testservice.fault;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// /actuator/faults lists the registered fault injectors; POST /actuator/faults/{name} with
+// {"enabled": false} switches one off without a restart.
+@Component
+@Endpoint(id = "faults")
+public class FaultInjectorEndpoint {
+
+    private final FaultInjectorRegistry registry;
+
+    public FaultInjectorEndpoint(FaultInjectorRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> faults() {
+        List<Map<String, Object>> faults = new ArrayList<>();
+        for (FaultInjectorRegistry.Entry entry : registry.entries()) {
+            faults.add(describe(entry));
+        }
+        return Map.of("faults", faults);
+    }
+
+    @ReadOperation
+    public Map<String, Object> fault(@Selector String name) {
+        FaultInjectorRegistry.Entry entry = registry.find(name);
+        return entry != null ? describe(entry) : null;
+    }
+
+    @WriteOperation
+    public Map<String, Object> setEnabled(@Selector String name, boolean enabled) {
+        FaultInjectorRegistry.Entry entry = registry.find(name);
+        if (entry == null) {
+            return null;
+        }
+        entry.setEnabled(enabled);
+        return describe(entry);
+    }
+
+    private static Map<String, Object> describe(FaultInjectorRegistry.Entry entry) {
+        FaultInjector injector = entry.injector();
+        List<Map<String, Object>> parameters = new ArrayList<>();
+        for (FaultInjector.Parameter parameter : injector.parameters()) {
+            Map<String, Object> p = new LinkedHashMap<>();
+            p.put("name", parameter.name());
+            p.put("default", parameter.defaultValue());
+            p.put("description", parameter.description());
+            parameters.add(p);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", injector.name());
+        result.put("description", injector.description());
+        result.put("strategy", injector.strategy().name().toLowerCase(Locale.ROOT));
+        result.put("parameters", parameters);
+        result.put("enabled", entry.isEnabled());
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package com.aletheia.testservice.fault;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// Every FaultInjector bean, indexed by name at startup. Each entry carries its declared
+// parameter defaults, pre-registered counters and a volatile enabled flag, so dispatch is one
+// hash lookup and a volatile read however many injectors are registered.
+@Component
+public class FaultInjectorRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjectorRegistry.class);
+    private static final Pattern NAME = Pattern.compile("[a-z][a-z0-9_]*");
+
+    private final Map<String, Entry> byName;
+    private final List<Entry> entries;
+    private final ExecutorService executor;
+
+    public FaultInjectorRegistry(List<FaultInjector> injectors, MeterRegistry meterRegistry,
+                                 @Value("${aletheia.faults.disabled:}") List<String> disabled) {
+        Set<String> disabledNames = new HashSet<>();
+        for (String name : disabled) {
+            if (!name.isBlank()) {
+                disabledNames.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        List<FaultInjector> sorted = new ArrayList<>(injectors);
+        sorted.sort(Comparator.comparing(FaultInjector::name));
+        Map<String, Entry> names = new HashMap<>();
+        List<Entry> all = new ArrayList<>();
+        for (FaultInjector injector : sorted) {
+            String name = injector.name();
+            if (!NAME.matcher(name).matches()) {
+                throw new IllegalStateException("Fault injector name '" + name + "' must be lower-case snake_case");
+            }
+            Entry entry = new Entry(injector, meterRegistry, !disabledNames.remove(name));
+            if (names.putIfAbsent(name, entry) != null) {
+                throw new IllegalStateException("Fault injector name '" + name + "' is registered twice");
+            }
+            all.add(entry);
+        }
+        if (!disabledNames.isEmpty()) {
+            throw new IllegalStateException("aletheia.faults.disabled names unknown fault injectors " + disabledNames);
+        }
+        this.byName = Map.copyOf(names);
+        this.entries = List.copyOf(all);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fault-injector-", 0).factory());
+    }
+
+    // Returns null for unknown names
+    public Entry find(String name) {
+        return byName.get(name);
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    // Runs an ASYNC or BACKGROUND injector on the fault executor with the caller's request id in MDC
+    public CompletableFuture<Void> submit(Entry entry, FaultInjector.Parameters parameters, String requestId) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            MDC.put("request_id", requestId);
+            try {
+                entry.injector.inject(parameters);
+                future.complete(null);
+            } catch (Throwable t) {
+                if (entry.injector.strategy() == FaultInjector.Strategy.BACKGROUND) {
+                    logger.error("Background fault injector {} failed (request_id={})", entry.name(), requestId, t);
+                }
+                future.completeExceptionally(t);
+            } finally {
+                MDC.remove("request_id");
+            }
+        });
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static final class Entry {
+
+        private final FaultInjector injector;
+        private final Map<String, String> defaults;
+        private final Counter injected;
+        private final Counter disabled;
+        private volatile boolean enabled;
+
+        private Entry(FaultInjector injector, MeterRegistry meterRegistry, boolean enabled) {
+            this.injector = injector;
+            Map<String, String> defaults = new HashMap<>();
+            for (FaultInjector.Parameter parameter : injector.parameters()) {
+                if (parameter.defaultValue() != null) {
+                    defaults.put(parameter.name(), parameter.defaultValue());
+                }
+            }
+            this.defaults = Map.copyOf(defaults);
+            this.enabled = enabled;
+            String strategy = injector.strategy().name().toLowerCase(Locale.ROOT);
+            this.injected = Counter.builder("fault_injections_total")
+                    .description("Fault injector invocations, by whether the injector was enabled")
+                    .tag("injector", injector.name())
+                    .tag("strategy", strategy)
+                    .tag("outcome", "injected")
+                    .register(meterRegistry);
+            this.disabled = Counter.builder("fault_injections_total")
+                    .description("Fault injector invocations, by whether the injector was enabled")
+                    .tag("injector", injector.name())
+                    .tag("strategy", strategy)
+                    .tag("outcome", "disabled")
+                    .register(meterRegistry);
+            Gauge.builder("fault_injector_enabled", this, e -> e.enabled ? 1 : 0)
+                    .description("1 when the fault injector is enabled")
+                    .tag("injector", injector.name())
+                    .register(meterRegistry);
+        }
+
+        public String name() {
+            return injector.name();
+        }
+
+        public FaultInjector injector() {
+            return injector;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            if (this.enabled != enabled) {
+                logger.warn("Fault injector {} {}", injector.name(), enabled ? "enabled" : "disabled");
+            }
+            this.enabled = enabled;
+        }
+
+        // Counts the invocation and reports whether the injector may run
+        public boolean admit() {
+            if (enabled) {
+                injected.increment();
+                return true;
+            }
+            disabled.increment();
+            return false;
+        }
+
+        public FaultInjector.Parameters parameters(Function<String, String> source) {
+            return name -> {
+                String value = source.apply(name);
+                return value != null ? value : defaults.get(name);
+            };
+        }
+    }
+}
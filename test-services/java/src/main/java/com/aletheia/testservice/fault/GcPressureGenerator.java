@@ -0,0 +1,188 @@
+package com.aletheia.testservice.fault;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sustained allocation at a target rate. Most objects die young; survivorRatio of them are
+// kept in a FIFO capped at maxRetained, so they age into the old generation and are later
+// released, giving steady young-GC and old-GC activity without running out of heap.
+@Component
+public class GcPressureGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(GcPressureGenerator.class);
+    private static final Duration TICK = Duration.ofMillis(10);
+    private static final int MIN_OBJECT_BYTES = 16;
+    private static final int MAX_OBJECT_BYTES = 16 * 1024 * 1024;
+
+    public record Settings(double rateMbPerSecond, Distribution objectSize, double survivorRatio, DataSize maxRetained) {
+    }
+
+    private final double maxRateMbPerSecond;
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong evictedBytes = new AtomicLong();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final AtomicLong retainedObjects = new AtomicLong();
+
+    private volatile Settings settings;
+    private volatile Instant startedAt;
+    private volatile Thread worker;
+    // Keeps the newest allocation reachable so the JIT can't elide it
+    private volatile byte[] lastAllocation;
+
+    public GcPressureGenerator(MeterRegistry meterRegistry,
+                               @Value("${aletheia.gc-pressure.max-rate-mb:1024}") double maxRateMbPerSecond) {
+        this.maxRateMbPerSecond = maxRateMbPerSecond;
+
+        FunctionCounter.builder("gc_pressure_allocated_bytes", allocatedBytes, AtomicLong::get)
+                .description("Bytes allocated by the GC pressure generator")
+                .register(meterRegistry);
+        FunctionCounter.builder("gc_pressure_evicted_bytes", evictedBytes, AtomicLong::get)
+                .description("Retained bytes released to make room under the retention cap")
+                .register(meterRegistry);
+        Gauge.builder("gc_pressure_retained_bytes", retainedBytes, AtomicLong::get)
+                .description("Bytes currently kept live by the GC pressure generator")
+                .register(meterRegistry);
+        Gauge.builder("gc_pressure_retained_objects", retainedObjects, AtomicLong::get)
+                .description("Objects currently kept live by the GC pressure generator")
+                .register(meterRegistry);
+        Gauge.builder("gc_pressure_target_rate_bytes_per_second", this,
+                        g -> g.settings != null && g.worker != null ? g.settings.rateMbPerSecond() * 1024 * 1024 : 0)
+                .description("Configured allocation rate")
+                .register(meterRegistry);
+        Gauge.builder("gc_pressure_active", this, g -> g.worker != null ? 1 : 0)
+                .description("Whether the GC pressure generator is running")
+                .register(meterRegistry);
+    }
+
+    public synchronized Settings start(Settings requested) {
+        if (requested.rateMbPerSecond() <= 0 || requested.rateMbPerSecond() > maxRateMbPerSecond) {
+            throw new IllegalArgumentException("rate must be between 0 and " + maxRateMbPerSecond + " MB/s");
+        }
+        if (requested.survivorRatio() < 0 || requested.survivorRatio() > 1) {
+            throw new IllegalArgumentException("survivor ratio must be between 0 and 1");
+        }
+        long heapLimit = Runtime.getRuntime().maxMemory() / 2;
+        if (requested.maxRetained().toBytes() < 0 || requested.maxRetained().toBytes() > heapLimit) {
+            throw new IllegalArgumentException("max retained must be between 0 and half the max heap ("
+                    + DataSize.ofBytes(heapLimit).toMegabytes() + "MB)");
+        }
+
+        stop();
+        settings = requested;
+        startedAt = Instant.now();
+        Thread thread = new Thread(() -> run(requested), "gc-pressure");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+        logger.info("Started GC pressure: {} MB/s, size={}, survivor ratio={}, max retained={}",
+                requested.rateMbPerSecond(), requested.objectSize(), requested.survivorRatio(), requested.maxRetained());
+        return requested;
+    }
+
+    public synchronized boolean stop() {
+        Thread thread = worker;
+        if (thread == null) {
+            return false;
+        }
+        worker = null;
+        thread.interrupt();
+        try {
+            thread.join(TICK.multipliedBy(100).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Stopped GC pressure after allocating {} bytes", allocatedBytes.get());
+        return true;
+    }
+
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    public long getRetainedObjects() {
+        return retainedObjects.get();
+    }
+
+    private void run(Settings run) {
+        ArrayDeque<byte[]> retained = new ArrayDeque<>();
+        long retainedCap = run.maxRetained().toBytes();
+        double bytesPerNano = run.rateMbPerSecond() * 1024 * 1024 / 1e9;
+        double budget = 0;
+        long last = System.nanoTime();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                long now = System.nanoTime();
+                budget += (now - last) * bytesPerNano;
+                last = now;
+
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long allocated = 0;
+                while (budget > 0) {
+                    int size = (int) Math.max(MIN_OBJECT_BYTES,
+                            Math.min(MAX_OBJECT_BYTES, run.objectSize().sample(random)));
+                    byte[] chunk = new byte[size];
+                    chunk[size - 1] = 1;
+                    lastAllocation = chunk;
+                    budget -= size;
+                    allocated += size;
+
+                    if (random.nextDouble() < run.survivorRatio()) {
+                        retained.addLast(chunk);
+                        retainedBytes.addAndGet(size);
+                        retainedObjects.incrementAndGet();
+                        while (retainedBytes.get() > retainedCap && !retained.isEmpty()) {
+                            int evicted = retained.pollFirst().length;
+                            retainedBytes.addAndGet(-evicted);
+                            retainedObjects.decrementAndGet();
+                            evictedBytes.addAndGet(evicted);
+                        }
+                    }
+                }
+                allocatedBytes.addAndGet(allocated);
+                Thread.sleep(TICK);
+            }
+        } catch (InterruptedException e) {
+            // Stop requested
+        } finally {
+            retainedBytes.addAndGet(-retained.stream().mapToLong(chunk -> chunk.length).sum());
+            retainedObjects.addAndGet(-retained.size());
+            retained.clear();
+            lastAllocation = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+}
@@ -0,0 +1,101 @@
+package com.aletheia.testservice.fault;
+
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LatencyInjector {
+
+    public enum Source {
+        LATENCY_ENDPOINT("latency_endpoint"),
+        ERROR_ENDPOINT("error_endpoint"),
+        CHAOS_FILTER("chaos_filter"),
+        DB_QUERY("db_query");
+
+        private final String tag;
+
+        Source(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Duration maxDelay;
+    private final Map<Source, Map<String, Timer>> timers = new EnumMap<>(Source.class);
+    // Completes async delays without holding a request thread
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "latency-injector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LatencyInjector(MeterRegistry meterRegistry,
+                           @Value("${aletheia.latency.max:30s}") Duration maxDelay) {
+        this.maxDelay = maxDelay;
+
+        // Register every source/distribution pair up front so sampling never touches the registry
+        for (Source source : Source.values()) {
+            Map<String, Timer> byKind = new HashMap<>();
+            for (String kind : Distribution.KINDS) {
+                byKind.put(kind, Timer.builder("injected_latency")
+                        .description("Injected latency by source and distribution")
+                        .tag("source", source.tag)
+                        .tag("distribution", kind)
+                        .publishPercentiles(0.5, 0.99, 0.999)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(maxDelay)
+                        .register(meterRegistry));
+            }
+            timers.put(source, byKind);
+        }
+    }
+
+    public Duration sample(Distribution distribution) {
+        long nanos = (long) (distribution.sample(ThreadLocalRandom.current()) * 1_000_000L);
+        return Duration.ofNanos(Math.max(0L, Math.min(nanos, maxDelay.toNanos())));
+    }
+
+    // Sleeps the calling thread; cheap when the request runs on a virtual thread
+    public Duration delay(Distribution distribution, Source source) {
+        Duration delay = sample(distribution);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        record(distribution, source, delay);
+        return delay;
+    }
+
+    // Completes after the sampled delay; pair with an async servlet response
+    public CompletableFuture<Duration> delayAsync(Distribution distribution, Source source) {
+        Duration delay = sample(distribution);
+        CompletableFuture<Duration> future = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            record(distribution, source, delay);
+            future.complete(delay);
+        }, delay.toNanos(), TimeUnit.NANOSECONDS);
+        return future;
+    }
+
+    public void record(Distribution distribution, Source source, Duration delay) {
+        timers.get(source).get(distribution.kind()).record(delay);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,254 @@
+package com.aletheia.testservice.fault;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+// Live, measurable contention: worker threads repeatedly take one of a small set of locks,
+// spin inside the critical section, then pause before the next attempt. Unlike
+// /api/v1/deadlock every thread keeps making progress, just slowly.
+@Component
+public class LockContentionSimulator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LockContentionSimulator.class);
+
+    public enum LockType {
+        SYNCHRONIZED,
+        REENTRANT,
+        // Exclusive (write) mode
+        STAMPED;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static LockType fromName(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown lock type '" + name
+                        + "', expected one of synchronized, reentrant, stamped");
+            }
+        }
+    }
+
+    // fair only applies to reentrant locks; monitors and StampedLock have no fairness setting
+    public record Settings(int threads, int locks, LockType type, Duration hold, Duration think,
+                           boolean fair, Duration duration) {
+    }
+
+    private final int maxThreads;
+    private final Map<LockType, Counter> acquisitions = new EnumMap<>(LockType.class);
+    private final Map<LockType, Timer> waitTimers = new EnumMap<>(LockType.class);
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private final AtomicInteger runningThreads = new AtomicInteger();
+    private final AtomicLong runAcquisitions = new AtomicLong();
+    private final AtomicLong runWaitNanos = new AtomicLong();
+
+    private volatile Settings settings;
+    private volatile Instant startedAt;
+    // Each run has its own stop flag, so a worker that outlives stop()'s join keeps seeing its
+    // run as stopped even after the next start()
+    private AtomicBoolean stopped = new AtomicBoolean(true);
+    private List<Thread> workers = List.of();
+
+    public LockContentionSimulator(MeterRegistry meterRegistry,
+                                   @Value("${aletheia.contention.max-threads:256}") int maxThreads) {
+        this.maxThreads = maxThreads;
+        for (LockType type : LockType.values()) {
+            acquisitions.put(type, Counter.builder("lock_contention_acquisitions_total")
+                    .description("Lock acquisitions completed by contention workers")
+                    .tag("lock_type", type.tag())
+                    .register(meterRegistry));
+            waitTimers.put(type, Timer.builder("lock_contention_wait")
+                    .description("Time contention workers waited to acquire a lock")
+                    .tag("lock_type", type.tag())
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("lock_contention_waiting_threads", waitingThreads, AtomicInteger::get)
+                .description("Contention workers currently blocked waiting for a lock")
+                .register(meterRegistry);
+        Gauge.builder("lock_contention_running_threads", runningThreads, AtomicInteger::get)
+                .description("Contention workers currently running")
+                .register(meterRegistry);
+    }
+
+    public synchronized Settings start(Settings requested) {
+        if (requested.threads() < 1 || requested.threads() > maxThreads) {
+            throw new IllegalArgumentException("threads must be between 1 and " + maxThreads);
+        }
+        if (requested.locks() < 1 || requested.locks() > requested.threads()) {
+            throw new IllegalArgumentException("locks must be between 1 and the number of threads");
+        }
+        if (requested.hold().isNegative() || requested.think().isNegative()
+                || requested.duration().isNegative() || requested.duration().isZero()) {
+            throw new IllegalArgumentException("hold and think must be >= 0 and duration > 0");
+        }
+
+        stop();
+        settings = requested;
+        startedAt = Instant.now();
+        runAcquisitions.set(0);
+        runWaitNanos.set(0);
+        AtomicBoolean runStopped = new AtomicBoolean();
+        stopped = runStopped;
+
+        Object[] monitors = new Object[requested.locks()];
+        ReentrantLock[] reentrantLocks = new ReentrantLock[requested.locks()];
+        StampedLock[] stampedLocks = new StampedLock[requested.locks()];
+        for (int i = 0; i < requested.locks(); i++) {
+            monitors[i] = new Object();
+            reentrantLocks[i] = new ReentrantLock(requested.fair());
+            stampedLocks[i] = new StampedLock();
+        }
+
+        long deadline = System.nanoTime() + requested.duration().toNanos();
+        List<Thread> started = new ArrayList<>(requested.threads());
+        for (int i = 0; i < requested.threads(); i++) {
+            // Platform threads, so thread dumps show BLOCKED/WAITING states per worker
+            Thread thread = new Thread(() -> work(requested, monitors, reentrantLocks, stampedLocks, deadline, runStopped),
+                    "contention-worker-" + i);
+            thread.setDaemon(true);
+            started.add(thread);
+        }
+        workers = started;
+        started.forEach(Thread::start);
+        logger.info("Started lock contention: {} threads on {} {} lock(s), hold {}, think {}, fair={}, for {}",
+                requested.threads(), requested.locks(), requested.type().tag(), requested.hold(),
+                requested.think(), requested.fair(), requested.duration());
+        return requested;
+    }
+
+    public synchronized boolean stop() {
+        if (workers.isEmpty()) {
+            return false;
+        }
+        stopped.set(true);
+        for (Thread worker : workers) {
+            try {
+                worker.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers = List.of();
+        logger.info("Stopped lock contention after {} acquisitions", runAcquisitions.get());
+        return true;
+    }
+
+    public boolean isRunning() {
+        return runningThreads.get() > 0;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getAcquisitions() {
+        return runAcquisitions.get();
+    }
+
+    public Duration getAverageWait() {
+        long count = runAcquisitions.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(runWaitNanos.get() / count);
+    }
+
+    public int getWaitingThreads() {
+        return waitingThreads.get();
+    }
+
+    private void work(Settings run, Object[] monitors, ReentrantLock[] reentrantLocks,
+                      StampedLock[] stampedLocks, long deadline, AtomicBoolean runStopped) {
+        Counter acquired = acquisitions.get(run.type());
+        Timer waitTimer = waitTimers.get(run.type());
+        long holdNanos = run.hold().toNanos();
+        long thinkNanos = run.think().toNanos();
+        runningThreads.incrementAndGet();
+        try {
+            while (!runStopped.get() && System.nanoTime() < deadline) {
+                int index = run.locks() == 1 ? 0 : ThreadLocalRandom.current().nextInt(run.locks());
+                waitingThreads.incrementAndGet();
+                long start = System.nanoTime();
+
+                switch (run.type()) {
+                    case SYNCHRONIZED -> {
+                        synchronized (monitors[index]) {
+                            criticalSection(start, holdNanos, acquired, waitTimer, runStopped);
+                        }
+                    }
+                    case REENTRANT -> {
+                        reentrantLocks[index].lock();
+                        try {
+                            criticalSection(start, holdNanos, acquired, waitTimer, runStopped);
+                        } finally {
+                            reentrantLocks[index].unlock();
+                        }
+                    }
+                    case STAMPED -> {
+                        long stamp = stampedLocks[index].writeLock();
+                        try {
+                            criticalSection(start, holdNanos, acquired, waitTimer, runStopped);
+                        } finally {
+                            stampedLocks[index].unlockWrite(stamp);
+                        }
+                    }
+                }
+
+                if (thinkNanos > 0) {
+                    LockSupport.parkNanos(thinkNanos);
+                }
+            }
+        } finally {
+            runningThreads.decrementAndGet();
+        }
+    }
+
+    private void criticalSection(long waitStart, long holdNanos, Counter acquired, Timer waitTimer,
+                                 AtomicBoolean runStopped) {
+        long acquiredAt = System.nanoTime();
+        waitingThreads.decrementAndGet();
+        long waited = acquiredAt - waitStart;
+        waitTimer.record(waited, TimeUnit.NANOSECONDS);
+        acquired.increment();
+        runAcquisitions.incrementAndGet();
+        runWaitNanos.addAndGet(waited);
+
+        // Busy inside the lock, as a CPU-bound critical section would be; a stop cuts long holds short
+        while (System.nanoTime() - acquiredAt < holdNanos && !runStopped.get()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+}
@@ -0,0 +1,249 @@
+package com.aletheia.testservice.fault;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Grows retained memory slowly, the way a real leak does. Everything is held by a single
+// long-lived "memory-leak" thread, so stopping growth keeps the leaked data reachable until
+// it is explicitly released, and heap dumps show a realistic retention path.
+@Component
+public class MemoryLeakSimulator {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemoryLeakSimulator.class);
+    private static final Duration TICK = Duration.ofMillis(100);
+    // Ceilings stop short of the heap/direct memory limit, so the leak levels off instead of OOMing
+    private static final double MAX_CEILING_FRACTION = 0.9;
+
+    public enum Structure {
+        // Unbounded cache keyed by an ever-increasing id
+        MAP,
+        // Append-only list, e.g. listeners that are never removed
+        LINKED_LIST,
+        // Values parked in a ThreadLocal on a thread that never finishes
+        THREAD_LOCAL;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Structure fromName(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown leak structure '" + name
+                        + "', expected one of map, linked_list, thread_local");
+            }
+        }
+    }
+
+    public record Settings(DataSize growthPerSecond, DataSize chunkSize, Structure structure,
+                           boolean offHeap, DataSize ceiling) {
+    }
+
+    private final long maxDirectMemory = maxDirectMemory();
+    private final AtomicLong heapBytes = new AtomicLong();
+    private final AtomicLong offHeapBytes = new AtomicLong();
+
+    // Only touched by the leak thread
+    private final Map<Long, Object> mapLeak = new HashMap<>();
+    private final List<Object> listLeak = new LinkedList<>();
+    private final ThreadLocal<List<Object>> threadLocalLeak = ThreadLocal.withInitial(ArrayList::new);
+    private long nextKey;
+
+    private volatile Settings settings;
+    private volatile Instant startedAt;
+    private volatile boolean growing;
+    private volatile boolean releaseRequested;
+    private Thread worker;
+
+    public MemoryLeakSimulator(MeterRegistry meterRegistry) {
+        Gauge.builder("memory_leak_retained_bytes", heapBytes, AtomicLong::get)
+                .description("Bytes retained by the memory leak simulator")
+                .tag("area", "heap")
+                .register(meterRegistry);
+        Gauge.builder("memory_leak_retained_bytes", offHeapBytes, AtomicLong::get)
+                .description("Bytes retained by the memory leak simulator")
+                .tag("area", "offheap")
+                .register(meterRegistry);
+        Gauge.builder("memory_leak_growth_rate_bytes_per_second", this,
+                        s -> s.growing ? s.settings.growthPerSecond().toBytes() : 0)
+                .description("Configured leak growth rate while growing")
+                .register(meterRegistry);
+        Gauge.builder("memory_leak_active", this, s -> s.growing ? 1 : 0)
+                .description("Whether the memory leak is currently growing")
+                .register(meterRegistry);
+    }
+
+    public synchronized Settings start(Settings requested) {
+        if (requested.growthPerSecond().toBytes() <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (requested.chunkSize().toBytes() <= 0 || requested.chunkSize().toMegabytes() > 64) {
+            throw new IllegalArgumentException("chunk size must be between 1B and 64MB");
+        }
+        long limit = (long) ((requested.offHeap() ? maxDirectMemory : Runtime.getRuntime().maxMemory())
+                * MAX_CEILING_FRACTION);
+        if (requested.ceiling().toBytes() <= 0 || requested.ceiling().toBytes() > limit) {
+            throw new IllegalArgumentException("ceiling must be between 0 and 90% of the max "
+                    + (requested.offHeap() ? "direct memory" : "heap") + " ("
+                    + DataSize.ofBytes(limit).toMegabytes() + "MB)");
+        }
+
+        settings = requested;
+        startedAt = Instant.now();
+        growing = true;
+        // A worker only exits after clearing this under the monitor, so a live one keeps growing
+        if (worker == null || !worker.isAlive()) {
+            worker = new Thread(this::run, "memory-leak");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        logger.info("Started memory leak: {}/s in {} chunks via {} ({}), ceiling {}",
+                requested.growthPerSecond(), requested.chunkSize(), requested.structure().tag(),
+                requested.offHeap() ? "off-heap" : "heap", requested.ceiling());
+        return requested;
+    }
+
+    // Stops growth; leaked memory stays reachable unless release is set
+    public synchronized void stop(boolean release) {
+        growing = false;
+        if (release && worker != null) {
+            releaseRequested = true;
+            worker.interrupt();
+        }
+        logger.info("Stopped memory leak growth at {} heap / {} off-heap bytes{}",
+                heapBytes.get(), offHeapBytes.get(), release ? ", releasing" : "");
+    }
+
+    public boolean isGrowing() {
+        return growing;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getHeapBytes() {
+        return heapBytes.get();
+    }
+
+    public long getOffHeapBytes() {
+        return offHeapBytes.get();
+    }
+
+    private void run() {
+        double budget = 0;
+        long last = System.nanoTime();
+        while (true) {
+            if (releaseRequested) {
+                release();
+                releaseRequested = false;
+                // Clear any interrupt left over from the release request
+                Thread.interrupted();
+                // Decide under the monitor, so a start() racing with the release either keeps this
+                // worker looping or finds it gone and starts a fresh one
+                synchronized (this) {
+                    if (!growing) {
+                        worker = null;
+                        break;
+                    }
+                }
+            }
+
+            long now = System.nanoTime();
+            Settings current = settings;
+            if (growing) {
+                budget += (now - last) * current.growthPerSecond().toBytes() / 1e9;
+                int chunk = (int) current.chunkSize().toBytes();
+                try {
+                    while (budget >= chunk && heapBytes.get() + offHeapBytes.get() + chunk <= current.ceiling().toBytes()) {
+                        retain(current, chunk);
+                        budget -= chunk;
+                    }
+                } catch (OutOfMemoryError e) {
+                    // The rest of the JVM got there first. Stop growing but keep the worker, so
+                    // status stays truthful and a release can still free what was retained.
+                    logger.error("Memory leak hit {} at {} heap / {} off-heap bytes, stopping growth",
+                            e.getMessage(), heapBytes.get(), offHeapBytes.get());
+                    synchronized (this) {
+                        if (settings == current) {
+                            growing = false;
+                        }
+                    }
+                    budget = 0;
+                }
+            } else {
+                budget = 0;
+            }
+            last = now;
+
+            try {
+                Thread.sleep(TICK);
+            } catch (InterruptedException e) {
+                // Woken up for a release
+            }
+        }
+    }
+
+    private void retain(Settings current, int chunk) {
+        Object value;
+        if (current.offHeap()) {
+            value = ByteBuffer.allocateDirect(chunk);
+            offHeapBytes.addAndGet(chunk);
+        } else {
+            value = new byte[chunk];
+            heapBytes.addAndGet(chunk);
+        }
+
+        switch (current.structure()) {
+            case MAP -> mapLeak.put(nextKey++, value);
+            case LINKED_LIST -> listLeak.add(value);
+            case THREAD_LOCAL -> threadLocalLeak.get().add(value);
+        }
+    }
+
+    private void release() {
+        mapLeak.clear();
+        listLeak.clear();
+        threadLocalLeak.remove();
+        heapBytes.set(0);
+        // Direct buffers are freed once their owners are collected
+        offHeapBytes.set(0);
+    }
+
+    // -XX:MaxDirectMemorySize, which defaults to the max heap when unset
+    private static long maxDirectMemory() {
+        HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        long configured = diagnostics != null
+                ? Long.parseLong(diagnostics.getVMOption("MaxDirectMemorySize").getValue())
+                : 0;
+        return configured > 0 ? configured : Runtime.getRuntime().maxMemory();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop(true);
+    }
+}
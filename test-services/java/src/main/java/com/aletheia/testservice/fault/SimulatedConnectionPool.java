@@ -0,0 +1,151 @@
+package com.aletheia.testservice.fault;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A fixed-size JDBC-style pool with no database behind it: borrowing takes a permit, waits
+// in a fair queue when all connections are out and gives up after the connection timeout with
+// the same SQLTransientConnectionException HikariCP throws. Sized like Hikari's default
+// (minimumIdle = maximumPoolSize), so total is constant and idle = total - active.
+//
+// Meters use HikariCP's own dotted names and "pool" tag, so the exported
+// hikaricp_connections_* series match what HikariCP's Micrometer tracker produces.
+@Component
+public class SimulatedConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulatedConnectionPool.class);
+
+    private final String poolName;
+    private final int maxSize;
+    private final Duration connectionTimeout;
+    private final Semaphore connections;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer acquire;
+    private final Timer usage;
+    private final Counter timeouts;
+
+    public SimulatedConnectionPool(MeterRegistry meterRegistry,
+                                   @Value("${aletheia.db.pool.name:HikariPool-1}") String poolName,
+                                   @Value("${aletheia.db.pool.max-size:10}") int maxSize,
+                                   @Value("${aletheia.db.pool.connection-timeout:30s}") Duration connectionTimeout) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("aletheia.db.pool.max-size must be at least 1, got " + maxSize);
+        }
+        this.poolName = poolName;
+        this.maxSize = maxSize;
+        this.connectionTimeout = connectionTimeout;
+        this.connections = new Semaphore(maxSize, true);
+
+        Tags pool = Tags.of("pool", poolName);
+        this.acquire = Timer.builder("hikaricp.connections.acquire")
+                .description("Connection acquire time")
+                .tags(pool)
+                .register(meterRegistry);
+        this.usage = Timer.builder("hikaricp.connections.usage")
+                .description("Connection usage time")
+                .tags(pool)
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("hikaricp.connections.timeout")
+                .description("Connection timeout total count")
+                .tags(pool)
+                .register(meterRegistry);
+        Gauge.builder("hikaricp.connections", () -> maxSize).description("Total connections").tags(pool).register(meterRegistry);
+        Gauge.builder("hikaricp.connections.idle", this::getIdle).description("Idle connections").tags(pool).register(meterRegistry);
+        Gauge.builder("hikaricp.connections.active", active, AtomicInteger::get).description("Active connections").tags(pool).register(meterRegistry);
+        Gauge.builder("hikaricp.connections.pending", pending, AtomicInteger::get).description("Pending threads").tags(pool).register(meterRegistry);
+        Gauge.builder("hikaricp.connections.max", () -> maxSize).description("Max connections").tags(pool).register(meterRegistry);
+        Gauge.builder("hikaricp.connections.min", () -> maxSize).description("Min connections").tags(pool).register(meterRegistry);
+    }
+
+    // Blocks for up to the connection timeout; close the returned connection to give it back
+    public Connection borrow() throws SQLException {
+        long start = System.nanoTime();
+        pending.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = connections.tryAcquire(connectionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(poolName + " - Interrupted during connection acquisition", e);
+        } finally {
+            pending.decrementAndGet();
+        }
+
+        long waited = System.nanoTime() - start;
+        if (!acquired) {
+            timeouts.increment();
+            String message = String.format("%s - Connection is not available, request timed out after %dms (total=%d, active=%d, idle=%d, waiting=%d)",
+                    poolName, TimeUnit.NANOSECONDS.toMillis(waited), maxSize, active.get(), getIdle(), pending.get());
+            logger.warn(message);
+            throw new SQLTransientConnectionException(message);
+        }
+        active.incrementAndGet();
+        acquire.record(waited, TimeUnit.NANOSECONDS);
+        return new Connection(Duration.ofNanos(waited));
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getIdle() {
+        return Math.max(0, maxSize - active.get());
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    public final class Connection implements AutoCloseable {
+        private final Duration acquireTime;
+        private final long borrowedAt = System.nanoTime();
+        private boolean closed;
+
+        private Connection(Duration acquireTime) {
+            this.acquireTime = acquireTime;
+        }
+
+        public Duration getAcquireTime() {
+            return acquireTime;
+        }
+
+        // Not thread-safe, like a real JDBC connection
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            usage.record(System.nanoTime() - borrowedAt, TimeUnit.NANOSECONDS);
+            active.decrementAndGet();
+            connections.release();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.aletheia.testservice.fault;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Parks tasks directly on Tomcat's request executor so a fraction of the worker threads
+// is busy doing nothing. Incoming requests then queue behind them: latency climbs in
+// http_server_requests while CPU stays idle.
+@Component
+public class ThreadPoolSaturator implements ApplicationListener<WebServerInitializedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadPoolSaturator.class);
+
+    public record Settings(double fraction, Duration duration) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Duration maxDuration;
+    private final AtomicInteger heldThreads = new AtomicInteger();
+
+    private volatile ThreadPoolExecutor executor;
+    private volatile Settings settings;
+    private volatile Instant startedAt;
+    private volatile int requestedThreads;
+    private CountDownLatch release = new CountDownLatch(0);
+
+    public ThreadPoolSaturator(MeterRegistry meterRegistry,
+                               @Value("${aletheia.saturation.max-duration:10m}") Duration maxDuration) {
+        this.meterRegistry = meterRegistry;
+        this.maxDuration = maxDuration;
+        Gauge.builder("thread_pool_saturation_held_threads", heldThreads, AtomicInteger::get)
+                .description("Tomcat worker threads currently held by the saturation simulator")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (!(event.getWebServer() instanceof TomcatWebServer tomcat)) {
+            return;
+        }
+        Executor candidate = tomcat.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        // With virtual threads enabled Tomcat uses a per-task executor with nothing to exhaust
+        if (!(candidate instanceof ThreadPoolExecutor pool)) {
+            logger.info("Tomcat executor is {}, thread pool saturation unavailable",
+                    candidate == null ? "not set" : candidate.getClass().getSimpleName());
+            return;
+        }
+        executor = pool;
+
+        // Same names Micrometer's ExecutorServiceMetrics uses, tagged name=tomcat
+        Gauge.builder("executor.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("The approximate number of threads that are actively executing tasks")
+                .baseUnit("threads")
+                .tag("name", "tomcat")
+                .register(meterRegistry);
+        Gauge.builder("executor.queued", pool, p -> p.getQueue().size())
+                .description("The approximate number of tasks that are queued for execution")
+                .baseUnit("tasks")
+                .tag("name", "tomcat")
+                .register(meterRegistry);
+        Gauge.builder("executor.pool.size", pool, ThreadPoolExecutor::getPoolSize)
+                .description("The current number of threads in the pool")
+                .baseUnit("threads")
+                .tag("name", "tomcat")
+                .register(meterRegistry);
+        Gauge.builder("executor.pool.max", pool, ThreadPoolExecutor::getMaximumPoolSize)
+                .description("The maximum allowed number of threads in the pool")
+                .baseUnit("threads")
+                .tag("name", "tomcat")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return executor != null;
+    }
+
+    public synchronized Settings start(Settings requested) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Tomcat worker pool is not available (virtual threads enabled?)");
+        }
+        if (requested.fraction() <= 0 || requested.fraction() > 1) {
+            throw new IllegalArgumentException("fraction must be in (0, 1]");
+        }
+        if (requested.duration().isNegative() || requested.duration().isZero()
+                || requested.duration().compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("duration must be > 0 and at most " + maxDuration);
+        }
+
+        stop();
+        // Always leave one worker free so stop, status and health probes still get served
+        int max = executor.getMaximumPoolSize();
+        int threads = Math.min(max - 1, Math.max(1, (int) Math.floor(max * requested.fraction())));
+        if (threads < 1) {
+            throw new IllegalStateException("Tomcat worker pool has a single thread, nothing to saturate");
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        release = latch;
+        settings = requested;
+        startedAt = Instant.now();
+        requestedThreads = threads;
+
+        long holdMillis = requested.duration().toMillis();
+        int submitted = 0;
+        try {
+            for (; submitted < threads; submitted++) {
+                executor.execute(() -> hold(latch, holdMillis));
+            }
+        } catch (RejectedExecutionException e) {
+            logger.warn("Tomcat executor rejected hold task after {} of {}", submitted, threads);
+        }
+        logger.info("Holding {} of {} Tomcat worker threads for {}",
+                submitted, max, requested.duration());
+        return requested;
+    }
+
+    public synchronized boolean stop() {
+        if (release.getCount() == 0) {
+            return false;
+        }
+        release.countDown();
+        logger.info("Released Tomcat worker threads");
+        return true;
+    }
+
+    public boolean isSaturating() {
+        return heldThreads.get() > 0;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public int getRequestedThreads() {
+        return requestedThreads;
+    }
+
+    public int getHeldThreads() {
+        return heldThreads.get();
+    }
+
+    public int getActiveThreads() {
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
+    public int getQueuedTasks() {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    public int getMaxThreads() {
+        return executor == null ? 0 : executor.getMaximumPoolSize();
+    }
+
+    private void hold(CountDownLatch latch, long holdMillis) {
+        heldThreads.incrementAndGet();
+        try {
+            latch.await(holdMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            heldThreads.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+}
@@ -0,0 +1,62 @@
+package com.aletheia.testservice.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+// Logback builds its appenders before the Spring context exists, so the async appenders
+// are looked up from the logger context and bound to the registry afterwards.
+@Component
+public class AsyncLoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        Set<BackpressureAsyncAppender> appenders = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Logger logger : context.getLoggerList()) {
+            for (Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders(); it.hasNext(); ) {
+                if (it.next() instanceof BackpressureAsyncAppender appender) {
+                    appenders.add(appender);
+                }
+            }
+        }
+
+        for (BackpressureAsyncAppender appender : appenders) {
+            String name = appender.getName();
+            Gauge.builder("logging_async_queue_depth", appender, BackpressureAsyncAppender::getQueueDepth)
+                    .description("Events waiting in the async logging ring buffer")
+                    .tag("appender", name)
+                    .register(registry);
+            Gauge.builder("logging_async_queue_capacity", appender, BackpressureAsyncAppender::getRingBufferSize)
+                    .description("Capacity of the async logging ring buffer")
+                    .tag("appender", name)
+                    .tag("overflow_policy", appender.getOverflowPolicy())
+                    .register(registry);
+            FunctionCounter.builder("logging_async_dropped_events", appender, BackpressureAsyncAppender::getDroppedEvents)
+                    .description("Events dropped because the async logging ring buffer was full")
+                    .tag("appender", name)
+                    .register(registry);
+            appender.setFlushTimer(Timer.builder("logging_async_flush")
+                    .description("Time to write and flush the last event of each batch to stdout")
+                    .tag("appender", name)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+        }
+    }
+}
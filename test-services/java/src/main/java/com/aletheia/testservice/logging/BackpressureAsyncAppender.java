@@ -0,0 +1,94 @@
+package com.aletheia.testservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.util.Duration;
+import io.micrometer.core.instrument.Timer;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.com.lmax.disruptor.EventHandler;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Ring-buffer appender (LMAX disruptor) with a selectable policy for when the buffer is full:
+//   block      - every event waits for space, nothing is lost
+//   drop_info  - DEBUG/INFO and below are dropped, WARN/ERROR wait for space
+//   drop_all   - any event that does not fit is dropped immediately
+public class BackpressureAsyncAppender extends LoggingEventAsyncDisruptorAppender {
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP_INFO,
+        DROP_ALL
+    }
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    // Bound by AsyncLoggingMetrics once the meter registry exists
+    private volatile Timer flushTimer;
+
+    @Override
+    public void start() {
+        setAppendTimeout(Duration.buildByMilliseconds(overflowPolicy == OverflowPolicy.DROP_ALL ? 0 : -1));
+        super.start();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (overflowPolicy == OverflowPolicy.DROP_INFO
+                && !event.getLevel().isGreaterOrEqual(Level.WARN)
+                && getDisruptor().getRingBuffer().remainingCapacity() == 0) {
+            droppedEvents.incrementAndGet();
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected void fireEventAppendFailed(ILoggingEvent event, Throwable reason) {
+        droppedEvents.incrementAndGet();
+        super.fireEventAppendFailed(event, reason);
+    }
+
+    @Override
+    protected EventHandler<LogEvent<ILoggingEvent>> createEventHandler() {
+        EventHandler<LogEvent<ILoggingEvent>> delegate = super.createEventHandler();
+        return (logEvent, sequence, endOfBatch) -> {
+            if (!endOfBatch) {
+                delegate.onEvent(logEvent, sequence, false);
+                return;
+            }
+            // The last event of a batch also flushes the delegate's buffer to stdout
+            long start = System.nanoTime();
+            delegate.onEvent(logEvent, sequence, true);
+            Timer timer = flushTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    public int getQueueDepth() {
+        if (!isStarted()) {
+            return 0;
+        }
+        return getRingBufferSize() - (int) getDisruptor().getRingBuffer().remainingCapacity();
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    void setFlushTimer(Timer flushTimer) {
+        this.flushTimer = flushTimer;
+    }
+
+    public String getOverflowPolicy() {
+        return overflowPolicy.name().toLowerCase(Locale.ROOT);
+    }
+
+    public void setOverflowPolicy(String overflowPolicy) {
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT));
+    }
+}
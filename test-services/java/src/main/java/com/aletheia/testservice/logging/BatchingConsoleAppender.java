@@ -0,0 +1,33 @@
+package com.aletheia.testservice.logging;
+
+import ch.qos.logback.core.OutputStreamAppender;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+
+// Stdout appender that encodes into a reusable buffer instead of writing each event through.
+// With immediateFlush=false the wrapping async appender flushes it once per ring-buffer batch.
+public class BatchingConsoleAppender<E> extends OutputStreamAppender<E> {
+
+    private int bufferSize = 64 * 1024;
+
+    @Override
+    public void start() {
+        setOutputStream(new BufferedOutputStream(System.out, bufferSize) {
+            @Override
+            public void close() throws IOException {
+                // Never close stdout, only drain what is buffered
+                flush();
+            }
+        });
+        super.start();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
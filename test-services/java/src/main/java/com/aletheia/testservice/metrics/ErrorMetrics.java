@@ -0,0 +1,103 @@
+package com.aletheia.testservice.metrics;
+
+import com.aletheia.testservice.model.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Error meters, all registered at startup. Per-type meters sit in arrays indexed by
+// ErrorType ordinal, so the hot path is an array read plus increment/record with no
+// registry lookup or tag allocation. Requests for unknown types go to an explicit
+// error_type="unknown" overflow counter instead of minting new series.
+//
+// Percentiles come from Micrometer's HdrHistogram-backed time-window histograms, the
+// SLO boundaries become Prometheus histogram buckets.
+@Component
+public class ErrorMetrics {
+
+    public static final String UNKNOWN_TYPE = "unknown";
+
+    // ErrorResponse.errorType values produced by GlobalExceptionHandler
+    public static final List<String> HANDLER_TYPES = List.of(
+            "null_pointer_exception", "array_index_out_of_bounds", "arithmetic_exception", "sql_exception",
+            "out_of_memory_error", "invalid_request", "runtime_exception", "unexpected_exception");
+
+    private static final String SERVICE = "java-test-service";
+
+    private final Counter[] errorCounts;
+    private final Counter[] exceptionsThrown;
+    private final Timer[] requestTimers;
+    private final Counter unknownTypeCount;
+    private final Map<String, Timer> handlerTimers;
+
+    public ErrorMetrics(MeterRegistry meterRegistry,
+                        @Value("${aletheia.metrics.error-latency.slo:5ms,10ms,25ms,50ms,100ms,250ms,500ms,1s}") Duration[] slo,
+                        @Value("${aletheia.metrics.error-latency.percentiles:0.5,0.99,0.999}") double[] percentiles) {
+        ErrorType[] types = ErrorType.values();
+        this.errorCounts = new Counter[types.length];
+        this.exceptionsThrown = new Counter[types.length];
+        this.requestTimers = new Timer[types.length];
+        for (ErrorType type : types) {
+            errorCounts[type.ordinal()] = errorCount(meterRegistry, type.tag());
+            exceptionsThrown[type.ordinal()] = Counter.builder("exception_thrown_total")
+                    .description("Total number of thrown exceptions by class")
+                    .tag("service", SERVICE)
+                    .tag("exception_class", type.exceptionClass())
+                    .register(meterRegistry);
+            requestTimers[type.ordinal()] = Timer.builder("error_request_duration")
+                    .description("Time in /api/v1/error from entry until the requested fault is raised")
+                    .tag("error_type", type.tag())
+                    .serviceLevelObjectives(slo)
+                    .publishPercentiles(percentiles)
+                    .register(meterRegistry);
+        }
+        this.unknownTypeCount = errorCount(meterRegistry, UNKNOWN_TYPE);
+
+        Map<String, Timer> handlers = new HashMap<>();
+        for (String type : HANDLER_TYPES) {
+            handlers.put(type, Timer.builder("error_handler_duration")
+                    .description("Time GlobalExceptionHandler spends logging and building the error response")
+                    .tag("error_type", type)
+                    .serviceLevelObjectives(slo)
+                    .publishPercentiles(percentiles)
+                    .register(meterRegistry));
+        }
+        this.handlerTimers = Map.copyOf(handlers);
+    }
+
+    private static Counter errorCount(MeterRegistry meterRegistry, String errorType) {
+        return Counter.builder("error_count_total")
+                .description("Total number of errors by type")
+                .tag("service", SERVICE)
+                .tag("error_type", errorType)
+                .register(meterRegistry);
+    }
+
+    public void countError(ErrorType type) {
+        errorCounts[type.ordinal()].increment();
+    }
+
+    public void countUnknownType() {
+        unknownTypeCount.increment();
+    }
+
+    public void countExceptionThrown(ErrorType type) {
+        exceptionsThrown[type.ordinal()].increment();
+    }
+
+    public void recordRequest(ErrorType type, long startNanos) {
+        requestTimers[type.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHandler(String errorType, long startNanos) {
+        handlerTimers.get(errorType).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,39 @@
+package com.aletheia.testservice.model;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import java.sql.SQLException;
+import java.util.List;
+
+// Fault types served by /api/v1/error. The tag is the canonical ?type= value and the
+// error_type metric tag; aliases are accepted on input only.
+public enum ErrorType {
+    NPE("npe", NullPointerException.class, "null_pointer"),
+    ARRAY_INDEX("array_index", ArrayIndexOutOfBoundsException.class, "index_out_of_bounds"),
+    DIVIDE_BY_ZERO("divide_by_zero", ArithmeticException.class, "arithmetic"),
+    JSON_ERROR("json_error", JsonParseException.class, "json_processing"),
+    SQL_ERROR("sql_error", SQLException.class, "sql"),
+    OOM("oom", OutOfMemoryError.class, "out_of_memory");
+
+    private final String tag;
+    private final String exceptionClass;
+    private final List<String> aliases;
+
+    ErrorType(String tag, Class<? extends Throwable> exceptionClass, String... aliases) {
+        this.tag = tag;
+        this.exceptionClass = exceptionClass.getName();
+        this.aliases = List.of(aliases);
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public String exceptionClass() {
+        return exceptionClass;
+    }
+
+    public List<String> aliases() {
+        return aliases;
+    }
+}
@@ -7,6 +7,7 @@ public record ServiceInfo(
         String version,
         String uptime,
         Boolean ready,
+        String executionMode,
         List<String> endpoints
 ) {
 }
@@ -0,0 +1,276 @@
+package com.aletheia.testservice.scenario;
+
+import com.aletheia.testservice.config.ChaosRule;
+import com.aletheia.testservice.fault.CpuWorkload;
+import com.aletheia.testservice.fault.Distribution;
+import com.aletheia.testservice.fault.GcPressureGenerator;
+import com.aletheia.testservice.fault.LockContentionSimulator;
+import com.aletheia.testservice.fault.MemoryLeakSimulator;
+import com.aletheia.testservice.fault.ThreadPoolSaturator;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.unit.DataSize;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// A scripted fault timeline, loaded from YAML:
+//
+//   name: checkout-incident
+//   repeat: false
+//   phases:
+//     - name: healthy
+//       duration: 5m
+//     - name: degraded
+//       duration: 2m
+//       chaos: ["/api/v1=30%:fault:npe", "/api/v1=100%:latency:fixed:200"]
+//       stressors:
+//         cpu: {utilization: 80, cores: 1}
+//     - name: not-ready
+//       duration: 1m
+//       health: {readiness: down}
+//
+// Each phase states everything that should be wrong while it runs; anything it leaves out is
+// healthy/off. Stressor keys match the query parameters of the corresponding endpoints.
+public record Scenario(String name, boolean repeat, List<Phase> phases) {
+
+    public record Phase(String name, Duration duration, boolean livenessDown, boolean readinessDown,
+                        List<ChaosRule> chaos, Cpu cpu, GcPressureGenerator.Settings gcPressure,
+                        MemoryLeakSimulator.Settings leak, boolean releaseLeak,
+                        LockContentionSimulator.Settings contention, ThreadPoolSaturator.Settings saturation) {
+    }
+
+    public record Cpu(int utilization, int cores, CpuWorkload workload) {
+    }
+
+    public Duration totalDuration() {
+        Duration total = Duration.ZERO;
+        for (Phase phase : phases) {
+            total = total.plus(phase.duration());
+        }
+        return total;
+    }
+
+    public static Scenario parse(String yaml) {
+        Object document = new Yaml(new SafeConstructor(new LoaderOptions())).load(yaml);
+        if (!(document instanceof Map<?, ?>)) {
+            throw new IllegalArgumentException("Scenario must be a YAML mapping with a 'phases' list");
+        }
+        Section root = new Section("scenario", (Map<?, ?>) document);
+        String name = root.string("name", "scenario");
+        boolean repeat = root.bool("repeat", false);
+        List<Phase> phases = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Object entry : root.list("phases")) {
+            Phase phase = parsePhase(entry, phases.size());
+            if (!names.add(phase.name())) {
+                throw new IllegalArgumentException("Duplicate scenario phase name '" + phase.name() + "'");
+            }
+            phases.add(phase);
+        }
+        root.finish();
+        if (phases.isEmpty()) {
+            throw new IllegalArgumentException("Scenario '" + name + "' has no phases");
+        }
+        return new Scenario(name, repeat, List.copyOf(phases));
+    }
+
+    private static Phase parsePhase(Object entry, int index) {
+        if (!(entry instanceof Map<?, ?>)) {
+            throw new IllegalArgumentException("Scenario phase " + index + " must be a mapping");
+        }
+        Section phase = new Section("phase " + index, (Map<?, ?>) entry);
+        String name = phase.string("name", "phase-" + index);
+        Duration duration = phase.duration("duration", null);
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Scenario phase '" + name + "' needs a positive duration");
+        }
+
+        boolean livenessDown = false;
+        boolean readinessDown = false;
+        Section health = phase.section("health");
+        if (health != null) {
+            livenessDown = health.state("liveness");
+            readinessDown = health.state("readiness");
+            health.finish();
+        }
+
+        List<ChaosRule> chaos = new ArrayList<>();
+        for (Object rule : phase.list("chaos")) {
+            chaos.add(ChaosRule.parse(String.valueOf(rule)));
+        }
+
+        Cpu cpu = null;
+        GcPressureGenerator.Settings gcPressure = null;
+        MemoryLeakSimulator.Settings leak = null;
+        boolean releaseLeak = true;
+        LockContentionSimulator.Settings contention = null;
+        ThreadPoolSaturator.Settings saturation = null;
+        Section stressors = phase.section("stressors");
+        if (stressors != null) {
+            Section s = stressors.section("cpu");
+            if (s != null) {
+                cpu = new Cpu(s.integer("utilization", 100), s.integer("cores", 1),
+                        CpuWorkload.fromName(s.string("workload", "loop")));
+                s.finish();
+            }
+            s = stressors.section("gc_pressure");
+            if (s != null) {
+                gcPressure = new GcPressureGenerator.Settings(s.decimal("rate", 50),
+                        Distribution.parse(s.string("size", "lognormal:4096,1.0")),
+                        s.decimal("survivor_ratio", 0.05), s.dataSize("max_retained", "128MB"));
+                s.finish();
+            }
+            s = stressors.section("leak");
+            if (s != null) {
+                leak = new MemoryLeakSimulator.Settings(s.dataSize("rate", "1MB"), s.dataSize("chunk_size", "1KB"),
+                        MemoryLeakSimulator.Structure.fromName(s.string("structure", "map")),
+                        s.bool("off_heap", false), s.dataSize("ceiling", "256MB"));
+                releaseLeak = s.bool("release", true);
+                s.finish();
+            }
+            s = stressors.section("contention");
+            if (s != null) {
+                contention = new LockContentionSimulator.Settings(s.integer("threads", 8), s.integer("locks", 1),
+                        LockContentionSimulator.LockType.fromName(s.string("type", "synchronized")),
+                        s.duration("hold", Duration.ofMillis(5)), s.duration("think", Duration.ofMillis(1)),
+                        s.bool("fair", false), duration);
+                s.finish();
+            }
+            s = stressors.section("saturation");
+            if (s != null) {
+                saturation = new ThreadPoolSaturator.Settings(s.decimal("fraction", 0.9), duration);
+                s.finish();
+            }
+            stressors.finish();
+        }
+        phase.finish();
+        return new Phase(name, duration, livenessDown, readinessDown, List.copyOf(chaos),
+                cpu, gcPressure, leak, releaseLeak, contention, saturation);
+    }
+
+    // Typed access to one YAML mapping; finish() rejects keys nobody asked for, so typos fail
+    // at load time instead of silently doing nothing mid-scenario
+    private static final class Section {
+
+        private final String path;
+        private final Map<?, ?> values;
+        private final Set<Object> read = new HashSet<>();
+
+        private Section(String path, Map<?, ?> values) {
+            this.path = path;
+            this.values = values;
+        }
+
+        private Object get(String key) {
+            read.add(key);
+            return values.get(key);
+        }
+
+        String string(String key, String defaultValue) {
+            Object value = get(key);
+            return value != null ? String.valueOf(value) : defaultValue;
+        }
+
+        int integer(String key, int defaultValue) {
+            Object value = get(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return value instanceof Number n ? n.intValue() : Integer.parseInt(String.valueOf(value).trim());
+            } catch (NumberFormatException e) {
+                throw invalid(key, value);
+            }
+        }
+
+        double decimal(String key, double defaultValue) {
+            Object value = get(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return value instanceof Number n ? n.doubleValue() : Double.parseDouble(String.valueOf(value).trim());
+            } catch (NumberFormatException e) {
+                throw invalid(key, value);
+            }
+        }
+
+        boolean bool(String key, boolean defaultValue) {
+            Object value = get(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            if (value instanceof Boolean b) {
+                return b;
+            }
+            throw invalid(key, value);
+        }
+
+        Duration duration(String key, Duration defaultValue) {
+            Object value = get(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return DurationStyle.detectAndParse(String.valueOf(value));
+            } catch (IllegalArgumentException e) {
+                throw invalid(key, value);
+            }
+        }
+
+        DataSize dataSize(String key, String defaultValue) {
+            return DataSize.parse(string(key, defaultValue));
+        }
+
+        // "up"/"down" for a health probe; up when absent
+        boolean state(String key) {
+            String value = string(key, "up");
+            return switch (value) {
+                case "up" -> false;
+                case "down" -> true;
+                default -> throw invalid(key, value);
+            };
+        }
+
+        Section section(String key) {
+            Object value = get(key);
+            if (value == null) {
+                return null;
+            }
+            if (!(value instanceof Map<?, ?> map)) {
+                throw invalid(key, value);
+            }
+            return new Section(path + "." + key, map);
+        }
+
+        List<?> list(String key) {
+            Object value = get(key);
+            if (value == null) {
+                return List.of();
+            }
+            if (!(value instanceof List<?> list)) {
+                throw invalid(key, value);
+            }
+            return list;
+        }
+
+        void finish() {
+            for (Object key : values.keySet()) {
+                if (!read.contains(key)) {
+                    throw new IllegalArgumentException("Unknown key '" + key + "' in " + path);
+                }
+            }
+        }
+
+        private IllegalArgumentException invalid(String key, Object value) {
+            return new IllegalArgumentException("Invalid value '" + value + "' for " + path + "." + key);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.aletheia.testservice.scenario;
+
+import com.aletheia.testservice.config.ChaosFilter;
+import com.aletheia.testservice.config.ChaosRule;
+import com.aletheia.testservice.config.ConfigurableHealthIndicator;
+import com.aletheia.testservice.fault.CpuBurner;
+import com.aletheia.testservice.fault.GcPressureGenerator;
+import com.aletheia.testservice.fault.LockContentionSimulator;
+import com.aletheia.testservice.fault.MemoryLeakSimulator;
+import com.aletheia.testservice.fault.ThreadPoolSaturator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Plays a Scenario timeline. Every transition runs on one scheduler thread, so phases never
+// overlap and there is no locking between them; controllers only read the volatile status
+// fields. Phase boundaries are scheduled against the scenario's start time, so slow
+// transitions don't accumulate drift.
+@Component
+public class ScenarioEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioEngine.class);
+
+    private final ConfigurableHealthIndicator healthIndicator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChaosFilter chaosFilter;
+    private final CpuBurner cpuBurner;
+    private final GcPressureGenerator gcPressure;
+    private final MemoryLeakSimulator memoryLeak;
+    private final LockContentionSimulator contention;
+    private final ThreadPoolSaturator saturator;
+    private final MeterRegistry meterRegistry;
+    private final Scenario configured;
+    private final boolean autostart;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scenario-engine");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Read by status(); written only on the scheduler thread
+    private volatile Scenario scenario;
+    private volatile int phaseIndex = -1;
+    private volatile int iteration;
+    private volatile Instant startedAt;
+    private volatile Instant phaseStartedAt;
+
+    // Scheduler thread only
+    private long startNanos;
+    private long phaseEndNanos;
+    private ScheduledFuture<?> nextTransition;
+    private List<ChaosRule> savedChaosRules;
+    private boolean savedChaosEnabled;
+    private CpuBurner.Burn cpuBurn;
+    private final List<Meter> phaseGauges = new ArrayList<>();
+
+    public ScenarioEngine(ConfigurableHealthIndicator healthIndicator, ApplicationEventPublisher eventPublisher,
+                          ChaosFilter chaosFilter, CpuBurner cpuBurner, GcPressureGenerator gcPressure,
+                          MemoryLeakSimulator memoryLeak, LockContentionSimulator contention,
+                          ThreadPoolSaturator saturator, MeterRegistry meterRegistry, ResourceLoader resourceLoader,
+                          @Value("${aletheia.scenario.location:}") String location,
+                          @Value("${aletheia.scenario.autostart:true}") boolean autostart) throws IOException {
+        this.healthIndicator = healthIndicator;
+        this.eventPublisher = eventPublisher;
+        this.chaosFilter = chaosFilter;
+        this.cpuBurner = cpuBurner;
+        this.gcPressure = gcPressure;
+        this.memoryLeak = memoryLeak;
+        this.contention = contention;
+        this.saturator = saturator;
+        this.meterRegistry = meterRegistry;
+        this.autostart = autostart;
+        // Load eagerly so a broken timeline fails startup rather than its first transition
+        this.configured = location.isBlank() ? null : load(resourceLoader.getResource(location));
+
+        Gauge.builder("scenario_phase_index", this, engine -> engine.phaseIndex)
+                .description("Index of the active scenario phase, -1 when no scenario is running")
+                .register(meterRegistry);
+    }
+
+    private Scenario load(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            Scenario loaded = Scenario.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            validate(loaded);
+            logger.info("Loaded scenario '{}' from {}: {} phases, {}", loaded.name(), resource,
+                    loaded.phases().size(), loaded.totalDuration());
+            return loaded;
+        }
+    }
+
+    public Scenario validate(Scenario scenario) {
+        for (Scenario.Phase phase : scenario.phases()) {
+            chaosFilter.validate(phase.chaos());
+        }
+        return scenario;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startConfigured() {
+        if (configured != null && autostart) {
+            start(configured);
+        }
+    }
+
+    public Scenario getConfigured() {
+        return configured;
+    }
+
+    public void start(Scenario next) {
+        validate(next);
+        scheduler.execute(() -> {
+            if (scenario != null) {
+                finish("replaced");
+            }
+            scenario = next;
+            iteration = 0;
+            startedAt = Instant.now();
+            startNanos = System.nanoTime();
+            phaseEndNanos = startNanos;
+            savedChaosRules = chaosFilter.getRules();
+            savedChaosEnabled = chaosFilter.isEnabled();
+            registerPhaseGauges(next);
+            logger.warn("Starting scenario '{}' ({} phases, {}, repeat={})", next.name(), next.phases().size(),
+                    next.totalDuration(), next.repeat());
+            enter(0);
+        });
+    }
+
+    public void stop() {
+        scheduler.execute(() -> {
+            if (scenario != null) {
+                finish("stopped");
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return scenario != null;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public int getPhaseIndex() {
+        return phaseIndex;
+    }
+
+    public int getIteration() {
+        return iteration;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getPhaseStartedAt() {
+        return phaseStartedAt;
+    }
+
+    private void enter(int index) {
+        Scenario current = scenario;
+        if (phaseIndex >= 0) {
+            exit(current.phases().get(phaseIndex));
+            // So finish() doesn't exit the same phase a second time
+            phaseIndex = -1;
+        }
+        if (index == current.phases().size()) {
+            if (!current.repeat()) {
+                finish("completed");
+                return;
+            }
+            index = 0;
+            iteration++;
+        }
+
+        Scenario.Phase phase = current.phases().get(index);
+        phaseIndex = index;
+        phaseStartedAt = Instant.now();
+        logger.warn("Scenario '{}' entering phase '{}' for {}", current.name(), phase.name(), phase.duration());
+        apply(current, phase);
+
+        phaseEndNanos += phase.duration().toNanos();
+        int next = index + 1;
+        nextTransition = scheduler.schedule(() -> enter(next),
+                Math.max(0, phaseEndNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private void apply(Scenario current, Scenario.Phase phase) {
+        String reason = "Scenario '" + current.name() + "' phase '" + phase.name() + "'";
+        if (phase.livenessDown()) {
+            healthIndicator.setLivenessOverride(reason);
+            AvailabilityChangeEvent.publish(eventPublisher, this, LivenessState.BROKEN);
+        }
+        if (phase.readinessDown()) {
+            healthIndicator.setReadinessOverride(reason);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+
+        chaosFilter.setRules(phase.chaos());
+        chaosFilter.setEnabled(!phase.chaos().isEmpty());
+
+        // A stressor that can't start (e.g. saturation on virtual threads) shouldn't end the scenario
+        if (phase.cpu() != null) {
+            run("cpu", () -> cpuBurn = cpuBurner.start(phase.duration(), phase.cpu().utilization(), phase.cpu().cores(),
+                    phase.cpu().workload()));
+        }
+        if (phase.gcPressure() != null) {
+            run("gc_pressure", () -> gcPressure.start(phase.gcPressure()));
+        }
+        if (phase.leak() != null) {
+            run("leak", () -> memoryLeak.start(phase.leak()));
+        }
+        if (phase.contention() != null) {
+            run("contention", () -> contention.start(phase.contention()));
+        }
+        if (phase.saturation() != null) {
+            run("saturation", () -> saturator.start(phase.saturation()));
+        }
+    }
+
+    // A CPU burn would end with the phase on its own, but a stop or replacement cuts it short
+    private void exit(Scenario.Phase phase) {
+        if (phase.livenessDown()) {
+            healthIndicator.setLivenessOverride(null);
+            AvailabilityChangeEvent.publish(eventPublisher, this, LivenessState.CORRECT);
+        }
+        if (phase.readinessDown()) {
+            healthIndicator.setReadinessOverride(null);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+        if (cpuBurn != null) {
+            cpuBurner.cancel(cpuBurn);
+            cpuBurn = null;
+        }
+        if (phase.gcPressure() != null) {
+            run("gc_pressure", gcPressure::stop);
+        }
+        if (phase.leak() != null) {
+            run("leak", () -> memoryLeak.stop(phase.releaseLeak()));
+        }
+        if (phase.contention() != null) {
+            run("contention", contention::stop);
+        }
+        if (phase.saturation() != null) {
+            run("saturation", saturator::stop);
+        }
+    }
+
+    private void finish(String outcome) {
+        Scenario current = scenario;
+        if (nextTransition != null) {
+            nextTransition.cancel(false);
+            nextTransition = null;
+        }
+        if (phaseIndex >= 0) {
+            exit(current.phases().get(phaseIndex));
+        }
+        chaosFilter.setRules(savedChaosRules);
+        chaosFilter.setEnabled(savedChaosEnabled);
+        for (Meter gauge : phaseGauges) {
+            meterRegistry.remove(gauge);
+        }
+        phaseGauges.clear();
+        phaseIndex = -1;
+        phaseStartedAt = null;
+        scenario = null;
+        logger.warn("Scenario '{}' {}", current.name(), outcome);
+    }
+
+    private void registerPhaseGauges(Scenario next) {
+        for (int i = 0; i < next.phases().size(); i++) {
+            int index = i;
+            phaseGauges.add(Gauge.builder("scenario_phase_active", this, engine -> engine.phaseIndex == index ? 1 : 0)
+                    .description("1 for the scenario phase currently running")
+                    .tag("scenario", next.name())
+                    .tag("phase", next.phases().get(i).name())
+                    .register(meterRegistry));
+        }
+    }
+
+    private void run(String stressor, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.error("Scenario stressor {} failed: {}", stressor, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}